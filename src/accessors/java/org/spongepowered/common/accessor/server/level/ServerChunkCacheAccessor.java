@@ -28,6 +28,7 @@
 import net.minecraft.server.level.ServerChunkCache;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
 
 @Mixin(ServerChunkCache.class)
 public interface ServerChunkCacheAccessor {
@@ -36,4 +37,6 @@ public interface ServerChunkCacheAccessor {
 
     @Accessor("distanceManager") DistanceManager accessor$distanceManager();
 
+    @Invoker("runDistanceManagerUpdates") boolean invoker$runDistanceManagerUpdates();
+
 }
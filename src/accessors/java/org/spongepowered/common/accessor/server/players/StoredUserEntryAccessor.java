@@ -27,10 +27,13 @@
 import net.minecraft.server.players.StoredUserEntry;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
 
 @Mixin(StoredUserEntry.class)
 public interface StoredUserEntryAccessor<T> {
 
     @Accessor("user") T accessor$user();
 
+    @Invoker("hasExpired") boolean invoker$hasExpired();
+
 }
@@ -0,0 +1,51 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * A flattened, immutable copy of the {@link CommonConfig} values that are
+ * read on hot paths.
+ *
+ * @param invalidLookupUuids the ids that should never be looked up
+ * @param ipSets the named ip sets, as compiled predicates
+ * @param asyncChunkLoadsPerPlugin the per-plugin cap on in-flight async chunk loads
+ */
+public record CommonConfigSnapshot(
+    Set<UUID> invalidLookupUuids,
+    Map<String, Predicate<InetAddress>> ipSets,
+    int asyncChunkLoadsPerPlugin
+) {
+
+    public CommonConfigSnapshot(final CommonConfig config) {
+        this(Set.copyOf(config.world.invalidLookupUuids), Map.copyOf(config.getIpSets()),
+            Math.max(1, config.world.asyncChunkLoadsPerPlugin));
+    }
+}
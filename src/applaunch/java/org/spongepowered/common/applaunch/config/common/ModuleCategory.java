@@ -39,6 +39,10 @@ public final class ModuleCategory {
     @Setting("entity-activation-range")
     public boolean entityActivationRange = true;
 
+    @Setting("entity-collision")
+    @Comment("Allows limiting how many entities an entity or block entity collides with each tick")
+    public boolean entityCollision = false;
+
     @Setting
     @Comment("Controls whether any exploit patches are applied.\n"
              + "If there are issues with any specific exploits, please\n"
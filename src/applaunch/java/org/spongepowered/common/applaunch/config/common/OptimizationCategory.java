@@ -55,4 +55,12 @@ public final class OptimizationCategory {
             + "to be generated on demand. This is a very safe optimization and\n"
             + "should usually remain enabled.")
     public boolean enableLazyDFU = true;
+
+    @Setting("optimize-maps")
+    @Comment("Maps held in item frames are synced to every player in the\n"
+            + "world, and Vanilla updates the holders and decorations of the\n"
+            + "map once for each of those players. This option updates each\n"
+            + "map once per tick instead and only refreshes item frame markers\n"
+            + "when they change, which helps servers with large map-art walls.")
+    public boolean optimizeMaps = true;
 }
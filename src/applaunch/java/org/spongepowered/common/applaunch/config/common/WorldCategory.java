@@ -56,6 +56,16 @@ public final class WorldCategory {
                                                      + "Note: If you are using SpongeForge, make sure to enter any mod fake player's UUID to this list.")
     public final List<UUID> invalidLookupUuids = new ArrayList<>();
 
+    @Setting(value = "parallel-spawn-preparation")
+    @Comment("If 'true', all worlds loaded at startup are created first and their spawn areas are then prepared together, \n"
+                                                           + "letting the chunk workers generate them at the same time instead of one world after another.")
+    public boolean parallelSpawnPreparation = false;
+
+    @Setting(value = "async-chunk-loads-per-plugin")
+    @Comment("The maximum number of chunks a single plugin may have loading asynchronously in a world at once. \n"
+                                                             + "Further requests are queued by priority until earlier ones complete. (Default: 8)")
+    public int asyncChunkLoadsPerPlugin = 8;
+
     public WorldCategory() {
         this.invalidLookupUuids.add(UUID.fromString("00000000-0000-0000-0000-000000000000"));
         this.invalidLookupUuids.add(UUID.fromString("41c82c87-7afb-4024-ba57-13d2c99cae77")); // Forge FakePlayer
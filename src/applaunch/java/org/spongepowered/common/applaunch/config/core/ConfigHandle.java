@@ -39,13 +39,16 @@
 import org.spongepowered.configurate.transformation.ConfigurationTransformation;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
@@ -94,6 +97,7 @@ public static void setSaveSuppressed(final boolean suppressed) {
     protected volatile T instance;
     protected @MonotonicNonNull CommentedConfigurationNode node;
     private final @Nullable Supplier<ConfigurationTransformation> transformer;
+    private final List<ConfigSnapshot<T, ?>> snapshots = new CopyOnWriteArrayList<>();
 
     protected ConfigHandle(final Class<T> type) {
         try {
@@ -127,8 +131,33 @@ public T get() {
         return this.instance;
     }
 
+    /**
+     * Create an immutable view of this configuration, which will be rebuilt
+     * whenever the configuration is reloaded or updated through this handle.
+     *
+     * @param factory the function deriving the snapshot from the configuration
+     * @param <S> the snapshot type
+     * @return the snapshot holder
+     */
+    public <S> ConfigSnapshot<T, S> snapshot(final Function<? super T, ? extends S> factory) {
+        final ConfigSnapshot<T, S> snapshot = new ConfigSnapshot<>(factory, this.instance);
+        this.snapshots.add(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Rebuild every snapshot of this configuration from the current instance.
+     */
+    protected final void refreshSnapshots() {
+        final T instance = this.instance;
+        for (final ConfigSnapshot<T, ?> snapshot : this.snapshots) {
+            snapshot.refresh(instance);
+        }
+    }
+
     public CompletableFuture<T> updateAndSave(final UnaryOperator<T> updater) {
         final T updated = Objects.requireNonNull(updater, "updater").apply(this.instance);
+        this.refreshSnapshots();
         return ConfigHandle.asyncFailableFuture(() -> {
             // TODO: Force one save at a time
             this.save();
@@ -145,6 +174,7 @@ void load() throws ConfigurateException {
         this.doVersionUpdate(node);
         this.node = node;
         this.instance = node.get(this.instanceType);
+        this.refreshSnapshots();
         this.doSave();
     }
 
@@ -217,6 +247,7 @@ public CompletableFuture<CommentedConfigurationNode> updateSetting(final String
             final CommentedConfigurationNode upd = this.getSetting(key);
             upd.set(value);
             this.instance = this.node.get(this.instanceType);
+            this.refreshSnapshots();
             this.save();
             return upd;
         }, ForkJoinPool.commonPool());
@@ -227,6 +258,7 @@ public <V> CompletableFuture<CommentedConfigurationNode> updateSetting(final Str
             final CommentedConfigurationNode upd = this.getSetting(key);
             upd.set(token, value);
             this.instance = this.node.get(this.instanceType);
+            this.refreshSnapshots();
             this.save();
             return upd;
         }, ForkJoinPool.commonPool());
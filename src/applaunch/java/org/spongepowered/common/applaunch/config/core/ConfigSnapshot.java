@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.core;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * An immutable view derived from the current value of a {@link ConfigHandle}.
+ *
+ * <p>The view is rebuilt whenever the handle's configuration object is
+ * replaced or updated, and is published through a single volatile field so
+ * hot-path readers always observe one consistent state, even across
+ * reloads.</p>
+ *
+ * @param <T> the configuration type
+ * @param <S> the snapshot type
+ */
+public final class ConfigSnapshot<T extends Config, S> implements Supplier<S> {
+
+    private final Function<? super T, ? extends S> factory;
+    private volatile S value;
+
+    ConfigSnapshot(final Function<? super T, ? extends S> factory, final T instance) {
+        this.factory = Objects.requireNonNull(factory, "factory");
+        this.value = factory.apply(instance);
+    }
+
+    void refresh(final T instance) {
+        this.value = this.factory.apply(instance);
+    }
+
+    @Override
+    public S get() {
+        return this.value;
+    }
+}
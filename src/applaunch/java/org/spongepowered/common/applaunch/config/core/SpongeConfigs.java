@@ -31,6 +31,7 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.common.applaunch.AppLaunch;
 import org.spongepowered.common.applaunch.config.common.CommonConfig;
+import org.spongepowered.common.applaunch.config.common.CommonConfigSnapshot;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.NodePath;
@@ -85,6 +86,7 @@ public final class SpongeConfigs {
     private static Path configDir;
 
     private static ConfigHandle<CommonConfig> sponge;
+    private static ConfigSnapshot<CommonConfig, CommonConfigSnapshot> spongeSnapshot;
 
     public static Path getDirectory() {
         if (SpongeConfigs.configDir == null) {
@@ -109,7 +111,9 @@ public static ConfigHandle<CommonConfig> getCommon() {
                     // Load global config first so we can migrate over old settings
                     SpongeConfigs.splitFiles();
                     // Then load the actual configuration based on the new file
-                    SpongeConfigs.sponge = SpongeConfigs.create(CommonConfig.class, CommonConfig::transformation, CommonConfig.FILE_NAME);
+                    final ConfigHandle<CommonConfig> handle = SpongeConfigs.create(CommonConfig.class, CommonConfig::transformation, CommonConfig.FILE_NAME);
+                    SpongeConfigs.spongeSnapshot = handle.snapshot(CommonConfigSnapshot::new);
+                    SpongeConfigs.sponge = handle;
                 }
             } finally {
                 SpongeConfigs.initLock.unlock();
@@ -118,6 +122,20 @@ public static ConfigHandle<CommonConfig> getCommon() {
         return SpongeConfigs.sponge;
     }
 
+    /**
+     * Get the current immutable snapshot of the global configuration, for
+     * readers on hot paths. The snapshot is replaced whenever the
+     * configuration is reloaded.
+     *
+     * @return global config snapshot
+     */
+    public static CommonConfigSnapshot getCommonSnapshot() {
+        if (SpongeConfigs.spongeSnapshot == null) {
+            SpongeConfigs.getCommon();
+        }
+        return SpongeConfigs.spongeSnapshot.get();
+    }
+
 
     // Config-internal
     // everything below here should (mostly) not be directly accessed
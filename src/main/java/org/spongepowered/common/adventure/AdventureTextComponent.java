@@ -41,16 +41,19 @@
 
 import java.util.List;
 import java.util.Locale;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AdventureTextComponent implements net.minecraft.network.chat.Component {
     private net.minecraft.network.chat.@MonotonicNonNull Component converted;
     private @Nullable Locale deepConvertedLocalized;
     private final net.kyori.adventure.text.Component wrapped;
     private final @Nullable ComponentRenderer<Locale> renderer;
-    private @Nullable Locale lastLocale;
-    private @Nullable AdventureTextComponent lastRendered;
+    // Components are commonly shared between every recipient of a broadcast, so keep one rendering per locale
+    // rather than only the most recent one -- otherwise mixed-locale audiences re-render on every encode.
+    // Most components are never rendered per locale, so the map is only created on the first rendering.
+    private volatile @MonotonicNonNull Map<Locale, AdventureTextComponent> renderedByLocale;
 
     public AdventureTextComponent(final net.kyori.adventure.text.Component wrapped, final @Nullable ComponentRenderer<Locale> renderer) {
         this.wrapped = wrapped;
@@ -65,12 +68,29 @@ public net.kyori.adventure.text.Component wrapped() {
         return this.wrapped;
     }
 
-    public synchronized AdventureTextComponent rendered(final Locale locale) {
-        if (Objects.equals(locale, this.lastLocale)) {
-            return this.lastRendered;
+    public AdventureTextComponent rendered(final Locale locale) {
+        if (this.renderer == null) {
+            return this;
         }
-        this.lastLocale = locale;
-        return this.lastRendered = this.renderer == null ? this : new AdventureTextComponent(this.renderer.render(this.wrapped, locale), null);
+        final Map<Locale, AdventureTextComponent> renderedByLocale = this.renderedByLocale();
+        final AdventureTextComponent rendered = renderedByLocale.get(locale);
+        if (rendered != null) {
+            return rendered;
+        }
+        return renderedByLocale.computeIfAbsent(locale, l -> new AdventureTextComponent(this.renderer.render(this.wrapped, l), null));
+    }
+
+    private Map<Locale, AdventureTextComponent> renderedByLocale() {
+        Map<Locale, AdventureTextComponent> renderedByLocale = this.renderedByLocale;
+        if (renderedByLocale == null) {
+            synchronized (this) {
+                renderedByLocale = this.renderedByLocale;
+                if (renderedByLocale == null) {
+                    renderedByLocale = this.renderedByLocale = new ConcurrentHashMap<>(4);
+                }
+            }
+        }
+        return renderedByLocale;
     }
 
     net.minecraft.network.chat.Component deepConverted() {
@@ -89,6 +89,7 @@
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerBossEvent;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.BossEvent;
 import net.minecraft.world.entity.EntityType;
@@ -108,6 +109,7 @@
 import org.spongepowered.common.bridge.adventure.BossBarBridge;
 import org.spongepowered.common.bridge.adventure.ComponentBridge;
 import org.spongepowered.common.bridge.adventure.StyleBridge;
+import org.spongepowered.common.bridge.server.level.ServerPlayerBridge;
 import org.spongepowered.common.bridge.world.BossEventBridge;
 import org.spongepowered.common.launch.Launch;
 
@@ -126,6 +128,7 @@
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 public final class SpongeAdventure {
 
@@ -881,6 +884,25 @@ public ComponentFlattener flattener() {
         }
     }
 
+    // Localized broadcasts
+    // A broadcast shares one message between every recipient, so render and convert it once per distinct
+    // recipient locale instead of once per recipient.
+
+    public static Function<ServerPlayer, net.minecraft.network.chat.Component> localizedPerRecipient(final net.minecraft.network.chat.Component message) {
+        final Map<Locale, net.minecraft.network.chat.Component> byLocale = new HashMap<>();
+        return player -> byLocale.computeIfAbsent(((ServerPlayerBridge) player).bridge$getLanguage(),
+            locale -> SpongeAdventure.prepareLocalized(message, locale));
+    }
+
+    private static net.minecraft.network.chat.Component prepareLocalized(final net.minecraft.network.chat.Component message, final Locale locale) {
+        final net.minecraft.network.chat.Component rendered = NativeComponentRenderer.apply(message, locale);
+        if (rendered instanceof final AdventureTextComponent adventure) {
+            // Convert here so the network threads only ever read the cached vanilla tree
+            adventure.deepConverted();
+        }
+        return rendered;
+    }
+
     // Boss bar tracking
     // So we can update viewed bars for players when their locales change
 
@@ -31,7 +31,7 @@
 import org.spongepowered.common.applaunch.config.common.OptimizationCategory;
 
 /**
- * Only used for the {@link OptimizationCategory#useMapOptimization()} mixins targeting {@link MapItemSavedData}.
+ * Only used for the {@link OptimizationCategory#optimizeMaps} mixins targeting {@link MapItemSavedData}.
  */
 public interface OptimizedMapDataBridge {
 
@@ -40,6 +40,4 @@ public interface OptimizedMapDataBridge {
     void mapOptimizationBridge$updatePlayer(Player player, ItemStack mapStack);
 
     void mapOptimizationBridge$updateItemFrameDecoration(ItemFrame frame);
-
-    void mapOptimizationBridge$removeItemFrame(ItemFrame frame);
 }
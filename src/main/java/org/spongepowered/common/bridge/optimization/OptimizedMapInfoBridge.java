@@ -29,4 +29,8 @@ public interface OptimizedMapInfoBridge {
     void mapOptimizationBridge$setValid(boolean valid);
 
     boolean mapOptimizationBridge$isValid();
+
+    void mapOptimizationBridge$setFramed(boolean framed);
+
+    boolean mapOptimizationBridge$isFramed();
 }
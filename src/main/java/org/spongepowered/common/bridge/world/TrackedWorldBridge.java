@@ -45,6 +45,7 @@
 
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A specialized {@link LevelBridge} or {@link ServerLevelBridge}
@@ -111,4 +112,13 @@ public interface TrackedWorldBridge {
      */
     SpongeBlockSnapshot bridge$createSnapshotWithEntity(BlockState state, BlockPos pos, BlockChangeFlag updateFlag, @Nullable BlockEntity tileEntity);
 
+    /**
+     * Gets a weakly referenced supplier of this world, shared by every
+     * transaction logged against it so hot paths such as neighbor
+     * notifications do not allocate a new one each time.
+     *
+     * @return The weakly referenced supplier
+     */
+    Supplier<ServerLevel> bridge$weakSupplier();
+
 }
@@ -37,6 +37,7 @@
 import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.inheritable.WorldConfigSnapshot;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -57,6 +58,8 @@ public interface PrimaryLevelDataBridge {
 
     UUID bridge$uniqueId();
 
+    void bridge$setUniqueId(UUID uniqueId);
+
     /**
      * Gets whether the world data supports custom difficulties,
      * @return
@@ -101,6 +104,8 @@ public interface PrimaryLevelDataBridge {
 
     void bridge$configAdapter(InheritableConfigHandle<WorldConfig> adapter);
 
+    WorldConfigSnapshot bridge$configSnapshot();
+
     void bridge$populateFromLevelStem(LevelStem dimension);
 
     BiMap<Integer, UUID> bridge$getMapUUIDIndex();
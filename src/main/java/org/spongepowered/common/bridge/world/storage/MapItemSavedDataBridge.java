@@ -37,6 +37,8 @@ public interface MapItemSavedDataBridge {
 
     void bridge$updateWholeMap();
 
+    void bridge$updateMapRegion(int minX, int minY, int maxX, int maxY);
+
     int bridge$getMapId();
 
     void bridge$initMapId(int id);
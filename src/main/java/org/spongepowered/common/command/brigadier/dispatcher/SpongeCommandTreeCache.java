@@ -0,0 +1,178 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command.brigadier.dispatcher;
+
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.command.CommandCause;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Caches built command tree packets, keyed by the outcomes of every
+ * requirement check that was made while building them.
+ *
+ * <p>The tree sent to a player only depends on which nodes they pass the
+ * requirements of, so players in the same permission group end up with
+ * identical trees. A cached tree is reused for a player if they produce the
+ * same outcome for every check the tree was built from. As the outcomes are
+ * re-evaluated for every lookup, permission changes simply select a different
+ * tree - only changes to the command nodes themselves require
+ * {@link #invalidate() invalidation}.</p>
+ *
+ * <p>Trees are recorded per thread, so trees built at the same time, such as
+ * by asynchronous {@code sendCommands} calls, do not mix their checks.</p>
+ */
+public final class SpongeCommandTreeCache {
+
+    private static final int MAX_TREES = 32;
+
+    private static final ThreadLocal<@Nullable Recording> RECORDING = new ThreadLocal<>();
+
+    // Most recently used first, guarded by itself
+    private final List<CachedTree> trees = new ArrayList<>();
+    // Recordings started before the last invalidation are discarded
+    private volatile int generation;
+
+    /**
+     * Tests the supplied check, recording its outcome against the tree that
+     * is currently being built, if any.
+     *
+     * @param subject The node that is being tested, compared by identity
+     * @param variant Distinguishes differing checks against the same node
+     * @param cause The cause the tree is being built for
+     * @param check The check
+     * @return The outcome of the check
+     */
+    public static boolean test(final Object subject, final boolean variant, final CommandCause cause, final Predicate<CommandCause> check) {
+        final boolean result = check.test(cause);
+        final @Nullable Recording current = SpongeCommandTreeCache.RECORDING.get();
+        if (current != null) {
+            current.checks.add(new Check(subject, variant, check, result));
+        }
+        return result;
+    }
+
+    /**
+     * Marks that the Brigadier tree was traversed through the recorded
+     * checks, trees built without doing so are never cached.
+     */
+    public static void markBrigadierTraversal() {
+        final @Nullable Recording current = SpongeCommandTreeCache.RECORDING.get();
+        if (current != null) {
+            current.brigadierTraversed = true;
+        }
+    }
+
+    public void invalidate() {
+        synchronized (this.trees) {
+            this.generation++;
+            this.trees.clear();
+        }
+    }
+
+    public @Nullable ClientboundCommandsPacket find(final CommandCause cause) {
+        final CachedTree[] trees;
+        synchronized (this.trees) {
+            if (this.trees.isEmpty()) {
+                return null;
+            }
+            trees = this.trees.toArray(new CachedTree[0]);
+        }
+        // Checks are made outside the lock, they may call into plugins
+        final Map<Object, Boolean> outcomes = new IdentityHashMap<>();
+        final Map<Object, Boolean> variantOutcomes = new IdentityHashMap<>();
+        for (final CachedTree tree : trees) {
+            if (tree.matches(cause, outcomes, variantOutcomes)) {
+                synchronized (this.trees) {
+                    if (this.trees.remove(tree)) {
+                        this.trees.add(0, tree);
+                    }
+                }
+                return tree.packet;
+            }
+        }
+        return null;
+    }
+
+    public void beginRecording() {
+        SpongeCommandTreeCache.RECORDING.set(new Recording(this.generation));
+    }
+
+    public void finishRecording(final ClientboundCommandsPacket packet) {
+        final @Nullable Recording current = SpongeCommandTreeCache.RECORDING.get();
+        SpongeCommandTreeCache.RECORDING.remove();
+        if (current == null || !current.brigadierTraversed) {
+            return;
+        }
+        synchronized (this.trees) {
+            if (current.generation != this.generation) {
+                return;
+            }
+            if (this.trees.size() >= SpongeCommandTreeCache.MAX_TREES) {
+                this.trees.remove(this.trees.size() - 1);
+            }
+            this.trees.add(0, new CachedTree(current.checks.toArray(new Check[0]), packet));
+        }
+    }
+
+    private record Check(Object subject, boolean variant, Predicate<CommandCause> check, boolean outcome) {
+    }
+
+    private static final class Recording {
+
+        final int generation;
+        final List<Check> checks = new ArrayList<>();
+        boolean brigadierTraversed;
+
+        Recording(final int generation) {
+            this.generation = generation;
+        }
+    }
+
+    private record CachedTree(Check[] checks, ClientboundCommandsPacket packet) {
+
+        boolean matches(final CommandCause cause, final Map<Object, Boolean> outcomes, final Map<Object, Boolean> variantOutcomes) {
+            for (final Check check : this.checks) {
+                // Checks are shared between trees, so each one is only evaluated once per lookup
+                final Map<Object, Boolean> known = check.variant ? variantOutcomes : outcomes;
+                Boolean outcome = known.get(check.subject);
+                if (outcome == null) {
+                    outcome = check.check.test(cause);
+                    known.put(check.subject, outcome);
+                }
+                if (outcome != check.outcome) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
@@ -79,6 +79,7 @@
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.command.SpongeCommandCompletion;
 import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandDispatcher;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandTreeCache;
 import org.spongepowered.common.command.exception.SpongeCommandResultException;
 import org.spongepowered.common.command.exception.SpongeCommandSyntaxException;
 import org.spongepowered.common.command.registrar.BrigadierCommandRegistrar;
@@ -124,6 +125,7 @@ public abstract class SpongeCommandManager implements CommandManager.Mutable {
     private final Multimap<PluginContainer, SpongeCommandMapping> pluginToCommandMap = HashMultimap.create();
     private final LinkedHashMap<SpongeCommandMapping, RootCommandTreeNode> mappingToSuggestionNodes = new LinkedHashMap<>();
     private final Map<Class<?>, CommandRegistrar<?>> knownRegistrars = new ConcurrentHashMap<>();
+    private final SpongeCommandTreeCache commandTreeCache = new SpongeCommandTreeCache();
     private BrigadierCommandRegistrar brigadierRegistrar;
 
     public static SpongeCommandManager get(final MinecraftServer server) {
@@ -140,6 +142,10 @@ public SpongeCommandDispatcher getDispatcher() {
         return this.brigadierRegistrar.getDispatcher();
     }
 
+    public SpongeCommandTreeCache commandTreeCache() {
+        return this.commandTreeCache;
+    }
+
     public BrigadierCommandRegistrar getBrigadierRegistrar() {
         return this.brigadierRegistrar;
     }
@@ -264,6 +270,8 @@ public BrigadierCommandRegistrar getBrigadierRegistrar() {
         if (parameterTree instanceof RootCommandTreeNode) {
             this.mappingToSuggestionNodes.put(mapping, (RootCommandTreeNode) parameterTree);
         }
+        // The shape of the command tree has changed
+        this.commandTreeCache.invalidate();
         return mapping;
     }
 
@@ -438,6 +446,7 @@ private void prettyPrintThrowableError(final Throwable thr, final String command
     }
 
     public void init() {
+        this.commandTreeCache.invalidate();
         final Cause cause = PhaseTracker.getCauseStackManager().currentCause();
         final Set<TypeToken<?>> usedTokens = new HashSet<>();
         Sponge.game().registry(RegistryTypes.COMMAND_REGISTRAR_TYPE).streamEntries().forEach(entry -> {
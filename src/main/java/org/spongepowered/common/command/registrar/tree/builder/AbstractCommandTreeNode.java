@@ -35,6 +35,7 @@
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.command.registrar.tree.CommandCompletionProvider;
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandTreeCache;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
 
 import java.util.HashMap;
@@ -141,7 +142,7 @@ protected final void addChildNodesToTree(
             final Map<AbstractCommandTreeNode<?, ?>, CommandNode<SharedSuggestionProvider>> nodeToSuggestionProvider,
             final Map<ForcedRedirectNode, AbstractCommandTreeNode<?, ?>> redirectsToApply) {
         this.getChildren().forEach((key, value) -> {
-            if (value.requirement.test(cause)) {
+            if (SpongeCommandTreeCache.test(value, false, cause, value.requirement)) {
                 final CommandNode<SharedSuggestionProvider> providerCommandNode =
                         nodeToSuggestionProvider.computeIfAbsent(value, k -> {
                             final CommandNode<SharedSuggestionProvider> ret = k.createElement(key);
@@ -32,6 +32,7 @@
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.command.registrar.tree.CommandTreeNode;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandTreeCache;
 import org.spongepowered.common.command.brigadier.tree.ForcedRedirectNode;
 
 import java.util.IdentityHashMap;
@@ -42,7 +43,7 @@ public final class RootCommandTreeNode extends AbstractCommandTreeNode<CommandTr
         implements CommandTreeNode.Root {
 
     public @Nullable CommandNode<SharedSuggestionProvider> createArgumentTree(final CommandCause cause, final LiteralArgumentBuilder<SharedSuggestionProvider> rootBuilder) {
-        if (this.getRequirement().test(cause)) {
+        if (SpongeCommandTreeCache.test(this, false, cause, this.getRequirement())) {
             final Map<AbstractCommandTreeNode<?, ?>, CommandNode<SharedSuggestionProvider>> nodeToSuggestionProvider = new IdentityHashMap<>();
             // this is going to be iterated only.
             final Map<ForcedRedirectNode, AbstractCommandTreeNode<?, ?>> redirectsToApply = new LinkedHashMap<>();
@@ -61,6 +61,7 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.world.level.LevelAccessor;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.entitycollision.CollisionCounterBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
@@ -623,7 +624,7 @@ protected Component getChunksInfo(final ServerWorld serverWorld) {
         }
         final ServerLevel serverLevel = (ServerLevel) serverWorld;
         final int entitiesToRemove = (int) serverWorld.entities().stream().filter(x -> ((Entity) x).isRemoved()).count();
-        return LinearComponents.linear(
+        final Component info = LinearComponents.linear(
                 this.key("Loaded chunks: "), this.value(serverLevel.getChunkSource().chunkMap.size()),
                 Component.newline(),
                 this.key("Entities: "), this.value(serverWorld.entities().size()),
@@ -635,6 +636,14 @@ protected Component getChunksInfo(final ServerWorld serverWorld) {
                 this.key("Removed Block Entities: "), this.value((int) ((LevelAccessor) serverLevel).accessor$blockEntityTickers().stream().filter(
                 TickingBlockEntity::isRemoved).count())
         );
+        if (!(serverLevel instanceof final CollisionCounterBridge collisions)) {
+            return info;
+        }
+        return LinearComponents.linear(
+                info,
+                Component.newline(),
+                this.key("Skipped Collisions: "), Component.text(collisions.collision$getSkippedCollisions(), NamedTextColor.GRAY)
+        );
     }
 
     protected Component key(final String text) {
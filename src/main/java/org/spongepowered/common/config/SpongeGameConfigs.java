@@ -36,6 +36,7 @@
 import org.spongepowered.common.config.inheritable.GlobalConfig;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.inheritable.WorldConfigSnapshot;
 import org.spongepowered.common.config.tracker.TrackerConfig;
 
 import java.io.IOException;
@@ -75,6 +76,10 @@ public static InheritableConfigHandle<WorldConfig> getForWorld(final net.minecra
         return ((PrimaryLevelDataBridge) mcWorld.getLevelData()).bridge$configAdapter();
     }
 
+    public static WorldConfigSnapshot getSnapshotForWorld(final net.minecraft.world.level.Level mcWorld) {
+        return ((PrimaryLevelDataBridge) mcWorld.getLevelData()).bridge$configSnapshot();
+    }
+
     public static boolean doesWorldConfigExist(final ResourceKey world) {
         final Path configPath = SpongeConfigs.getDirectory().resolve(Paths.get("worlds", world.namespace(), world.value() + ".conf"));
         return Files.exists(configPath);
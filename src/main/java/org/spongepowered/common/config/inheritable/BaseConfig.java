@@ -39,6 +39,9 @@ public abstract class BaseConfig implements Config {
     @Setting("entity-activation-range")
     public final EntityActivationRangeCategory entityActivationRange = new EntityActivationRangeCategory();
 
+    @Setting("entity-collision")
+    public final EntityCollisionCategory entityCollision = new EntityCollisionCategory();
+
     @Setting("spawner")
     @Comment("Used to control spawn limits around a player's view distance.")
     public final SpawnerCategory spawner = new SpawnerCategory();
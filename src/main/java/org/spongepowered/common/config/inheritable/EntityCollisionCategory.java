@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public final class EntityCollisionCategory {
+
+    @Setting("max-entity-collisions")
+    @Comment("Maximum number of entities a living entity will push each tick.\n"
+        + "Vanilla entity cramming still sees enough neighbours to apply its damage.\n"
+        + "Set to -1 to disable the limit.")
+    public int maxEntityCollisions = -1;
+
+    @Setting("max-block-entity-collisions")
+    @Comment("Maximum number of entities a block entity, such as a hopper, will collect in a single query.\n"
+        + "Set to -1 to disable the limit.\n"
+        + "Limited queries stop early, so the skipped collisions reported for a world are a lower bound:\n"
+        + "a hopper query that reaches its limit is counted as a single skipped collision.")
+    public int maxBlockEntityCollisions = -1;
+
+    @Setting
+    @Comment("Per-mod overrides. Refer to the minecraft default mod for example.")
+    public final Map<String, ModSubCategory> mods = new HashMap<>();
+
+    @Setting("auto-populate")
+    @Comment("If 'true', newly discovered entities and block entities will be added to this config with a default value.")
+    public boolean autoPopulate = false;
+
+    @ConfigSerializable
+    public static final class ModSubCategory {
+
+        @Setting("default-entity-collisions")
+        @Comment("Default collision limit for entities of this mod unless overridden.")
+        public Integer defaultEntityCollisions;
+
+        @Setting("default-block-entity-collisions")
+        @Comment("Default collision limit for block entities of this mod unless overridden.")
+        public Integer defaultBlockEntityCollisions;
+
+        @Setting
+        public final Map<String, Integer> entities = new HashMap<>();
+
+        @Setting("block-entities")
+        public final Map<String, Integer> blockEntities = new HashMap<>();
+
+        @Setting
+        @Comment("If 'false', collision limits for this mod will be ignored.")
+        public boolean enabled = true;
+    }
+}
@@ -109,6 +109,7 @@ public void load() throws ConfigurateException {
         this.instance = mergedNode.get(this.instanceType);
         this.node = node;
         this.mergedNode = mergedNode;
+        this.refreshSnapshots();
         this.doSave();
     }
 
@@ -0,0 +1,140 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.inheritable;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMaps;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A flattened, immutable copy of the inheritable configuration values that
+ * are read on hot paths, such as entity activation and item ticking.
+ *
+ * <p>Instances are rebuilt by the owning {@link InheritableConfigHandle}
+ * whenever the configuration is reloaded.</p>
+ */
+public final class WorldConfigSnapshot {
+
+    /**
+     * Returned by range lookups when no range has been configured.
+     */
+    public static final int NO_RANGE = Integer.MIN_VALUE;
+
+    // Indexed by activation type, see EntityActivationRange#initializeEntityActivationType
+    private static final String[] ACTIVATION_TYPE_NAMES = {"misc", "monster", "creature", "aquatic", "ambient", "misc"};
+
+    public final boolean activationAutoPopulate;
+    public final int itemDespawnRate;
+    public final double itemMergeRadius;
+    private final int[] activationRanges;
+    private final Map<String, ModActivationRanges> activationMods;
+
+    public WorldConfigSnapshot(final BaseConfig config) {
+        final EntityActivationRangeCategory activation = config.entityActivationRange;
+        this.activationAutoPopulate = activation.autoPopulate;
+        this.activationRanges = WorldConfigSnapshot.ranges(activation.globalRanges, 0);
+        final Map<String, ModActivationRanges> mods = new HashMap<>(activation.mods.size());
+        activation.mods.forEach((namespace, mod) -> mods.put(namespace, new ModActivationRanges(mod)));
+        this.activationMods = Map.copyOf(mods);
+
+        this.itemDespawnRate = config.entity.item.despawnRate;
+        this.itemMergeRadius = Math.max(0, config.world.itemMergeRadius);
+    }
+
+    public static String activationTypeName(final byte activationType) {
+        return WorldConfigSnapshot.ACTIVATION_TYPE_NAMES[WorldConfigSnapshot.activationIndex(activationType)];
+    }
+
+    private static int activationIndex(final byte activationType) {
+        return activationType > 0 && activationType < WorldConfigSnapshot.ACTIVATION_TYPE_NAMES.length ? activationType : 0;
+    }
+
+    private static int[] ranges(final Map<String, Integer> byName, final int fallback) {
+        final int[] ranges = new int[WorldConfigSnapshot.ACTIVATION_TYPE_NAMES.length];
+        for (int i = 0; i < ranges.length; i++) {
+            final Integer range = byName.get(WorldConfigSnapshot.ACTIVATION_TYPE_NAMES[i]);
+            ranges[i] = range == null ? fallback : range;
+        }
+        return ranges;
+    }
+
+    /**
+     * Gets the default activation range for the given activation type.
+     *
+     * @param activationType The activation type
+     * @return The activation range
+     */
+    public int activationRange(final byte activationType) {
+        return this.activationRanges[WorldConfigSnapshot.activationIndex(activationType)];
+    }
+
+    public @Nullable ModActivationRanges activationMod(final String namespace) {
+        return this.activationMods.get(namespace);
+    }
+
+    public static final class ModActivationRanges {
+
+        public final boolean enabled;
+        private final int[] defaultRanges;
+        private final Object2IntMap<String> entities;
+
+        ModActivationRanges(final EntityActivationRangeCategory.ModSubCategory mod) {
+            this.enabled = mod.enabled;
+            this.defaultRanges = WorldConfigSnapshot.ranges(mod.defaultRanges, WorldConfigSnapshot.NO_RANGE);
+            final Object2IntOpenHashMap<String> entities = new Object2IntOpenHashMap<>(mod.entities.size());
+            entities.defaultReturnValue(WorldConfigSnapshot.NO_RANGE);
+            mod.entities.forEach((path, range) -> {
+                if (range != null) {
+                    entities.put(path, range.intValue());
+                }
+            });
+            this.entities = Object2IntMaps.unmodifiable(entities);
+        }
+
+        /**
+         * Gets the default range of this mod for the given activation type.
+         *
+         * @param activationType The activation type
+         * @return The range, or {@link #NO_RANGE} if not configured
+         */
+        public int defaultRange(final byte activationType) {
+            return this.defaultRanges[WorldConfigSnapshot.activationIndex(activationType)];
+        }
+
+        /**
+         * Gets the range configured for the given entity of this mod.
+         *
+         * @param path The entity type key path
+         * @return The range, or {@link #NO_RANGE} if not configured
+         */
+        public int entityRange(final String path) {
+            return this.entities.getInt(path);
+        }
+    }
+}
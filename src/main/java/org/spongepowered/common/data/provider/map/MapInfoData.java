@@ -48,11 +48,8 @@ public static void register(final DataProviderRegistrator registrator) {
 		// todo: does this want to become immutable?
 		registrator.asMutable(MapItemSavedData.class)
 				.create(Keys.MAP_CANVAS)
-					.get(mapData -> new SpongeMapByteCanvas(mapData.colors))
-					.set((mapData, mapCanvas) -> {
-						((SpongeMapCanvas)mapCanvas).applyToMapData(mapData);
-						((MapItemSavedDataBridge)mapData).bridge$updateWholeMap();
-					})
+					.get(mapData -> new SpongeMapByteCanvas(mapData.colors.clone()))
+					.set((mapData, mapCanvas) -> ((SpongeMapCanvas)mapCanvas).applyToMapData(mapData))
 				.create(Keys.MAP_LOCATION)
 					.get(mapData -> Vector2i.from(mapData.centerX, mapData.centerZ))
 					.set((mapData, vector2i) -> {
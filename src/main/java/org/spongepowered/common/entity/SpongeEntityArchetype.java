@@ -76,6 +76,21 @@ private SpongeEntityArchetype(final EntityType<@NonNull ?> type, @Nullable final
         super(type, compound != null ? compound : new CompoundTag());
     }
 
+    /**
+     * Creates an archetype around already captured data. The compound is
+     * used as is, so it must not be shared with anything else.
+     *
+     * @param type The entity type
+     * @param compound The data, as captured by {@link SpongeEntityArchetypeBuilder#captureData}
+     * @param position The position, if known
+     * @return The archetype
+     */
+    public static SpongeEntityArchetype of(final EntityType<@NonNull ?> type, final CompoundTag compound, final @Nullable Vector3d position) {
+        final SpongeEntityArchetype archetype = new SpongeEntityArchetype(type, compound);
+        archetype.position = position;
+        return archetype;
+    }
+
     @Override
     public EntityType<@NonNull ?> type() {
         return this.type;
@@ -135,18 +135,27 @@ public EntityArchetype.Builder from(final Entity entity) {
             throw new IllegalArgumentException("Attempting to archetype a non-serializable entity: " + entity);
         }
         this.entityType = entityType;
+        this.position = entity.position();
+        this.compound = SpongeEntityArchetypeBuilder.captureData((net.minecraft.world.entity.Entity) entity);
+        return this;
+    }
+
+    /**
+     * Saves the data an archetype of the given entity holds, without its
+     * unique id and position.
+     *
+     * @param entity The entity
+     * @return The data
+     */
+    public static CompoundTag captureData(final net.minecraft.world.entity.Entity entity) {
         final CompoundTag compound = new CompoundTag();
-        net.minecraft.world.entity.Entity mcEntity = (net.minecraft.world.entity.Entity) entity;
-        if (entityType == SpongeEntityTypes.HUMAN) {
-            mcEntity.saveWithoutId(compound);
+        if (entity.getType() == SpongeEntityTypes.HUMAN) {
+            entity.saveWithoutId(compound);
         } else {
-            mcEntity.saveAsPassenger(compound);
+            entity.saveAsPassenger(compound);
         }
-        this.position = new Vector3d(mcEntity.getX(), mcEntity.getY(), mcEntity.getZ());
         SpongeEntityArchetypeBuilder.stripCompound(compound);
-        this.position = entity.position();
-        this.compound = compound;
-        return this;
+        return compound;
     }
 
     public void entityData(final CompoundTag tag) {
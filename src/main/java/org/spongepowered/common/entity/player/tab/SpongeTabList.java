@@ -28,17 +28,14 @@
 import com.google.common.collect.Maps;
 import com.mojang.authlib.GameProfile;
 import net.kyori.adventure.text.Component;
-import net.minecraft.network.chat.RemoteChatSession;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoRemovePacket;
 import net.minecraft.network.protocol.game.ClientboundPlayerInfoUpdatePacket;
 import net.minecraft.network.protocol.game.ClientboundTabListPacket;
-import net.minecraft.world.level.GameType;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.entity.living.player.gamemode.GameMode;
 import org.spongepowered.api.entity.living.player.server.ServerPlayer;
 import org.spongepowered.api.entity.living.player.tab.TabList;
 import org.spongepowered.api.entity.living.player.tab.TabListEntry;
-import org.spongepowered.common.accessor.network.protocol.game.ClientboundPlayerInfoUpdatePacketAccessor;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.profile.SpongeGameProfile;
 import org.spongepowered.common.util.Preconditions;
@@ -46,6 +43,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -60,6 +58,7 @@ public final class SpongeTabList implements TabList {
     private @Nullable Component header;
     private @Nullable Component footer;
     private final Map<UUID, TabListEntry> entries = Maps.newHashMap();
+    private final Map<UUID, EnumSet<ClientboundPlayerInfoUpdatePacket.Action>> pendingUpdates = new LinkedHashMap<>();
 
     public SpongeTabList(final net.minecraft.server.level.ServerPlayer player) {
         this.player = player;
@@ -175,6 +174,7 @@ public Optional<TabListEntry> removeEntry(final UUID uniqueId) {
 
         final TabListEntry entry = this.entries.remove(uniqueId);
         if (entry != null) {
+            this.pendingUpdates.remove(uniqueId);
             this.player.connection.send(new ClientboundPlayerInfoRemovePacket(List.of(entry.profile().uniqueId())));
             return Optional.of(entry);
         }
@@ -182,20 +182,39 @@ public Optional<TabListEntry> removeEntry(final UUID uniqueId) {
     }
 
     /**
-     * Send an entry update.
+     * Send an entry update. Additions are sent right away, so they stay in
+     * order with removals and other packets such as entity spawns. Other
+     * updates made on the main thread are coalesced and sent once the
+     * current tick is over.
      *
      * @param entry The entry to update
      * @param actions The update action to perform
      */
-    @SuppressWarnings("ConstantConditions")
     void sendUpdate(final TabListEntry entry, final EnumSet<ClientboundPlayerInfoUpdatePacket.Action> actions) {
-        final ClientboundPlayerInfoUpdatePacket packet = new ClientboundPlayerInfoUpdatePacket(actions, List.of());
+        if (actions.contains(ClientboundPlayerInfoUpdatePacket.Action.ADD_PLAYER)) {
+            // The addition carries the whole entry, any update still pending is included
+            this.pendingUpdates.remove(entry.profile().uniqueId());
+            this.player.connection.send(SpongeTabListUpdates.createPacket(entry, actions));
+            return;
+        }
+        if (!this.player.server.isSameThread()) {
+            this.player.connection.send(SpongeTabListUpdates.createPacket(entry, actions));
+            return;
+        }
+        if (this.pendingUpdates.isEmpty()) {
+            SpongeTabListUpdates.schedule(this);
+        }
+        this.pendingUpdates.computeIfAbsent(entry.profile().uniqueId(), k -> EnumSet.noneOf(ClientboundPlayerInfoUpdatePacket.Action.class))
+            .addAll(actions);
+    }
+
+    Map<UUID, EnumSet<ClientboundPlayerInfoUpdatePacket.Action>> drainPendingUpdates() {
+        final Map<UUID, EnumSet<ClientboundPlayerInfoUpdatePacket.Action>> updates = new LinkedHashMap<>(this.pendingUpdates);
+        this.pendingUpdates.clear();
+        return updates;
+    }
 
-        final RemoteChatSession.Data chatSessionData = ((SpongeTabListEntry) entry).profilePublicKey() == null ? null : new RemoteChatSession.Data(entry.profile().uuid(), ((SpongeTabListEntry) entry).profilePublicKey());
-        final net.minecraft.network.chat.Component displayName = entry.displayName().isPresent() ? SpongeAdventure.asVanilla(entry.displayName().get()) : null;
-        final ClientboundPlayerInfoUpdatePacket.Entry data = new ClientboundPlayerInfoUpdatePacket.Entry(entry.profile().uniqueId(), SpongeGameProfile.toMcProfile(entry.profile()),
-            entry.listed(), entry.latency(), (GameType) (Object) entry.gameMode(), displayName, chatSessionData);
-        ((ClientboundPlayerInfoUpdatePacketAccessor) packet).accessor$entries(List.of(data));
+    void sendPacket(final ClientboundPlayerInfoUpdatePacket packet) {
         this.player.connection.send(packet);
     }
 
@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity.player.tab;
+
+import net.kyori.adventure.text.Component;
+import net.minecraft.network.chat.RemoteChatSession;
+import net.minecraft.network.protocol.game.ClientboundPlayerInfoUpdatePacket;
+import net.minecraft.world.entity.player.ProfilePublicKey;
+import net.minecraft.world.level.GameType;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.entity.living.player.gamemode.GameMode;
+import org.spongepowered.api.entity.living.player.tab.TabListEntry;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.common.accessor.network.protocol.game.ClientboundPlayerInfoUpdatePacketAccessor;
+import org.spongepowered.common.adventure.SpongeAdventure;
+import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.profile.SpongeGameProfile;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Coalesces the tab list entry updates made during a tick and sends them once
+ * the tick is over. Additions and removals are not coalesced. Viewers receiving the same changes share one packet, and
+ * entries holding the same state are only converted to their packet form once.
+ */
+final class SpongeTabListUpdates {
+
+    private static final Set<SpongeTabList> PENDING = new LinkedHashSet<>();
+
+    /**
+     * Queues the given tab list to have its pending updates sent. Must be
+     * called on the main thread.
+     *
+     * @param list The tab list
+     */
+    static void schedule(final SpongeTabList list) {
+        if (SpongeTabListUpdates.PENDING.isEmpty()) {
+            Sponge.server().scheduler().submit(Task.builder()
+                .execute(SpongeTabListUpdates::flush)
+                .plugin(Launch.instance().commonPlugin())
+                .build());
+        }
+        SpongeTabListUpdates.PENDING.add(list);
+    }
+
+    /**
+     * Creates the packet sending the given entry.
+     *
+     * @param entry The entry
+     * @param actions The actions to send
+     * @return The packet
+     */
+    static ClientboundPlayerInfoUpdatePacket createPacket(final TabListEntry entry, final EnumSet<ClientboundPlayerInfoUpdatePacket.Action> actions) {
+        return SpongeTabListUpdates.createPacket(actions, List.of(EntryState.of(entry).toVanilla()));
+    }
+
+    private static void flush() {
+        final List<SpongeTabList> lists = new ArrayList<>(SpongeTabListUpdates.PENDING);
+        SpongeTabListUpdates.PENDING.clear();
+
+        final Map<EntryState, ClientboundPlayerInfoUpdatePacket.Entry> entries = new HashMap<>();
+        final Map<PacketKey, ClientboundPlayerInfoUpdatePacket> packets = new HashMap<>();
+        for (final SpongeTabList list : lists) {
+            final Map<UUID, EnumSet<ClientboundPlayerInfoUpdatePacket.Action>> updates = list.drainPendingUpdates();
+            if (updates.isEmpty()) {
+                continue;
+            }
+            // Entries changed in the same way are sent together
+            final Map<EnumSet<ClientboundPlayerInfoUpdatePacket.Action>, List<EntryState>> byActions = new LinkedHashMap<>();
+            updates.forEach((uniqueId, actions) -> list.entry(uniqueId).ifPresent(entry ->
+                byActions.computeIfAbsent(actions, k -> new ArrayList<>()).add(EntryState.of(entry))));
+
+            byActions.forEach((actions, states) -> {
+                final ClientboundPlayerInfoUpdatePacket packet = packets.computeIfAbsent(new PacketKey(actions, states), key -> {
+                    final List<ClientboundPlayerInfoUpdatePacket.Entry> data = new ArrayList<>(states.size());
+                    for (final EntryState state : states) {
+                        data.add(entries.computeIfAbsent(state, EntryState::toVanilla));
+                    }
+                    return SpongeTabListUpdates.createPacket(actions, data);
+                });
+                list.sendPacket(packet);
+            });
+        }
+    }
+
+    private static ClientboundPlayerInfoUpdatePacket createPacket(final EnumSet<ClientboundPlayerInfoUpdatePacket.Action> actions,
+        final List<ClientboundPlayerInfoUpdatePacket.Entry> entries
+    ) {
+        final ClientboundPlayerInfoUpdatePacket packet = new ClientboundPlayerInfoUpdatePacket(actions, List.of());
+        ((ClientboundPlayerInfoUpdatePacketAccessor) packet).accessor$entries(List.copyOf(entries));
+        return packet;
+    }
+
+    private record PacketKey(EnumSet<ClientboundPlayerInfoUpdatePacket.Action> actions, List<EntryState> entries) {
+    }
+
+    private record EntryState(UUID uniqueId, GameProfile profile, boolean listed, int latency, GameMode gameMode,
+        @Nullable Component displayName, ProfilePublicKey.@Nullable Data profilePublicKey
+    ) {
+
+        static EntryState of(final TabListEntry entry) {
+            return new EntryState(entry.profile().uniqueId(), entry.profile(), entry.listed(), entry.latency(), entry.gameMode(),
+                entry.displayName().orElse(null), ((SpongeTabListEntry) entry).profilePublicKey());
+        }
+
+        @SuppressWarnings("ConstantConditions")
+        ClientboundPlayerInfoUpdatePacket.Entry toVanilla() {
+            final RemoteChatSession.Data chatSessionData = this.profilePublicKey == null ? null : new RemoteChatSession.Data(this.profile.uuid(), this.profilePublicKey);
+            final net.minecraft.network.chat.Component displayName = this.displayName == null ? null : SpongeAdventure.asVanilla(this.displayName);
+            return new ClientboundPlayerInfoUpdatePacket.Entry(this.uniqueId, SpongeGameProfile.toMcProfile(this.profile),
+                this.listed, this.latency, (GameType) (Object) this.gameMode, displayName, chatSessionData);
+        }
+    }
+
+    private SpongeTabListUpdates() {
+    }
+}
@@ -25,6 +25,11 @@
 package org.spongepowered.common.event.tracking;
 
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -84,6 +89,8 @@
     @Nullable Deque<CauseStackManager.StackFrame> usedFrame;
 
     private @Nullable Object source;
+    private @Nullable ServerLevel notifiedLevel;
+    private @Nullable Long2ObjectOpenHashMap<NotifiedTargets> notifiedPositions;
 
     public P source(final Object owner) {
         Preconditions.checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
@@ -248,6 +255,38 @@ public boolean applyNotifierIfAvailable(final Consumer<? super UUID> consumer) {
         return false;
     }
 
+    /**
+     * Marks the given target position as having had its neighbor notifier
+     * associated from the given source block during this phase. The notifier
+     * of a phase does not change while it runs, so repeated notifications of the
+     * same target by the same source block, such as from redstone clocks, only
+     * need to be written to the chunk once.
+     *
+     * @param level The level the notification happens in
+     * @param sourcePos The position of the notifying block
+     * @param sourceBlock The notifying block
+     * @param targetPos The notified position
+     * @return True if the notification was not already associated during this phase
+     */
+    public boolean markNeighborNotifierAssociated(final ServerLevel level, final BlockPos sourcePos, final Block sourceBlock,
+        final BlockPos targetPos
+    ) {
+        if (this.notifiedPositions == null) {
+            this.notifiedPositions = new Long2ObjectOpenHashMap<>();
+        }
+        if (this.notifiedLevel != level) {
+            this.notifiedLevel = level;
+            this.notifiedPositions.clear();
+        }
+        final NotifiedTargets notified = this.notifiedPositions.computeIfAbsent(sourcePos.asLong(), source -> new NotifiedTargets());
+        if (notified.block != sourceBlock) {
+            // A different block now notifies from this position, start over rather than mixing its targets
+            notified.block = sourceBlock;
+            notified.targets.clear();
+        }
+        return notified.targets.add(targetPos.asLong());
+    }
+
     public TransactionalCaptureSupplier getTransactor() {
         if (this.transactor == null) {
             this.transactor = new TransactionalCaptureSupplier(this);
@@ -344,6 +383,10 @@ protected void reset() {
         this.stackTrace = null;
         this.creator = null;
         this.notifier = null;
+        this.notifiedLevel = null;
+        if (this.notifiedPositions != null) {
+            this.notifiedPositions.clear();
+        }
         if (this.transactor != null) {
             this.transactor.reset();
         }
@@ -396,4 +439,10 @@ public IPhaseState<P> getState() {
     public P asContext() {
         return (P) this;
     }
+
+    private static final class NotifiedTargets {
+
+        @Nullable Block block;
+        final LongOpenHashSet targets = new LongOpenHashSet(6);
+    }
 }
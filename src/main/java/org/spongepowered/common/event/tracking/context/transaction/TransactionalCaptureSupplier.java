@@ -37,6 +37,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.context.ICaptureSupplier;
+import org.spongepowered.common.event.tracking.context.transaction.block.NeighborNotification;
 import org.spongepowered.common.event.tracking.context.transaction.effect.PrepareBlockDrops;
 import org.spongepowered.common.event.tracking.context.transaction.type.TransactionType;
 
@@ -79,6 +80,18 @@ public boolean isEmpty() {
         return this.head == null;
     }
 
+    /**
+     * Returns {@code true} if the last transaction logged at the current depth
+     * is a neighbor notification, in which case another one would join its
+     * batch rather than start a new one.
+     *
+     * @return {@code true} if the last logged transaction is a neighbor notification
+     */
+    public boolean endsWithNeighborNotification() {
+        final @Nullable GameTransaction<@NonNull ?> last = this.effect != null ? this.effect.tail : this.tail;
+        return last instanceof NeighborNotification;
+    }
+
     /*
     Begin the more enhanced block tracking. This is only used by states that absolutely need to be able to track certain changes
     that involve more "physics" related transactions, such as neighbor notification tracking, tile entity tracking, and
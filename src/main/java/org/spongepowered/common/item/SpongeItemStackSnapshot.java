@@ -46,6 +46,7 @@
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.common.adventure.SpongeAdventure;
 import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
+import org.spongepowered.common.item.util.ItemStackFingerprint;
 import org.spongepowered.common.item.util.ItemStackUtil;
 import org.spongepowered.common.util.Constants;
 
@@ -72,6 +73,7 @@ public class SpongeItemStackSnapshot implements ItemStackSnapshot {
     private final ImmutableSet<org.spongepowered.api.data.value.Value.Immutable<?>> values;
     private final DataComponentPatch components;
     private @Nullable UUID creatorUniqueId;
+    private @Nullable ItemStackFingerprint fingerprint;
 
     @SuppressWarnings({"EqualsBetweenInconvertibleTypes", "ConstantConditions"})
     public SpongeItemStackSnapshot(final ItemStack itemStack) {
@@ -270,14 +272,28 @@ public boolean equals(final Object o) {
         final SpongeItemStackSnapshot that = (SpongeItemStackSnapshot) o;
         return this.quantity == that.quantity &&
                 this.damageValue == that.damageValue &&
-                Objects.equals(this.itemType, that.itemType) &&
-                Objects.equals(this.components, that.components) &&
+                this.fingerprint().equals(that.fingerprint()) &&
                 Objects.equals(this.creatorUniqueId, that.creatorUniqueId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.itemType, this.quantity, this.damageValue, this.components, this.creatorUniqueId);
+        return Objects.hash(this.fingerprint().hashCode(), this.quantity, this.damageValue, this.creatorUniqueId);
+    }
+
+    /**
+     * Gets the fingerprint of the item type and components of this snapshot,
+     * computed once on first use.
+     *
+     * @return The fingerprint
+     */
+    public ItemStackFingerprint fingerprint() {
+        @Nullable ItemStackFingerprint fingerprint = this.fingerprint;
+        if (fingerprint == null) {
+            fingerprint = ItemStackFingerprint.of(ItemStackUtil.toNative(this.privateStack));
+            this.fingerprint = fingerprint;
+        }
+        return fingerprint;
     }
 
     @Override
@@ -0,0 +1,249 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.recipe;
+
+import com.google.common.collect.Multimap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.Container;
+import net.minecraft.world.inventory.CraftingContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.BlastingRecipe;
+import net.minecraft.world.item.crafting.CampfireCookingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
+import net.minecraft.world.item.crafting.SmeltingRecipe;
+import net.minecraft.world.item.crafting.SmokingRecipe;
+import net.minecraft.world.item.crafting.StonecutterRecipe;
+import net.minecraft.world.level.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.item.recipe.cooking.SpongeBlastingRecipe;
+import org.spongepowered.common.item.recipe.cooking.SpongeCampfireCookingRecipe;
+import org.spongepowered.common.item.recipe.cooking.SpongeSmeltingRecipe;
+import org.spongepowered.common.item.recipe.cooking.SpongeSmokingRecipe;
+import org.spongepowered.common.item.recipe.crafting.shaped.SpongeShapedRecipe;
+import org.spongepowered.common.item.recipe.crafting.shapeless.SpongeShapelessRecipe;
+import org.spongepowered.common.item.recipe.ingredient.SpongeIngredient;
+import org.spongepowered.common.item.recipe.ingredient.SpongePredicateItemList;
+import org.spongepowered.common.item.recipe.ingredient.SpongeStackItemList;
+import org.spongepowered.common.item.recipe.stonecutting.SpongeStonecuttingRecipe;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Narrows recipe lookups down to the recipes that can possibly match the
+ * items in a container, while still testing them in the order the
+ * {@link net.minecraft.world.item.crafting.RecipeManager} holds them.
+ *
+ * <p>A recipe is filed under the items of one ingredient it requires to be
+ * present, preferring the ingredient that accepts the fewest items. Recipes
+ * where no such ingredient is known, such as special recipes or those made
+ * only of predicate ingredients, are tested for every lookup.</p>
+ *
+ * <p>The index is tied to one set of loaded recipes and is replaced whenever
+ * the recipes are reloaded.</p>
+ */
+public final class SpongeRecipeIndex {
+
+    // Recipes whose matches(...) is known to require every non empty ingredient to be present
+    private static final Set<Class<?>> INDEXABLE = Set.of(
+        ShapedRecipe.class, ShapelessRecipe.class, StonecutterRecipe.class,
+        SmeltingRecipe.class, BlastingRecipe.class, SmokingRecipe.class, CampfireCookingRecipe.class,
+        SpongeShapedRecipe.class, SpongeShapelessRecipe.class, SpongeStonecuttingRecipe.class,
+        SpongeSmeltingRecipe.class, SpongeBlastingRecipe.class, SpongeSmokingRecipe.class, SpongeCampfireCookingRecipe.class
+    );
+
+    private final Multimap<RecipeType<?>, RecipeHolder<?>> byType;
+    private final Map<ResourceLocation, RecipeHolder<?>> byName;
+    private final Map<RecipeType<?>, TypeIndex> indices = new Reference2ObjectOpenHashMap<>();
+    // Lookups come from the server thread and from plugins off it
+    private final Map<CraftingContainer, LastMatch> lastMatches = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public SpongeRecipeIndex(final Multimap<RecipeType<?>, RecipeHolder<?>> byType, final Map<ResourceLocation, RecipeHolder<?>> byName) {
+        this.byType = byType;
+        this.byName = byName;
+    }
+
+    /**
+     * Finds the first recipe of the type that matches the container.
+     *
+     * <p>The recipe named by {@code lastRecipe} is tested first, like Vanilla
+     * does for furnaces. The recipe that last matched a crafting container is
+     * tested first as well, but is only returned once no recipe ahead of it in
+     * the loaded order matches.</p>
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Container, T extends Recipe<C>> Optional<RecipeHolder<T>> find(final RecipeType<T> type, final C container,
+        final Level level, final @Nullable ResourceLocation lastRecipe
+    ) {
+        final @Nullable RecipeHolder<?> last = lastRecipe != null ? this.byName.get(lastRecipe) : null;
+        if (last != null && last.value().getType() == type && ((T) last.value()).matches(container, level)) {
+            return Optional.of((RecipeHolder<T>) last);
+        }
+
+        final TypeIndex index = this.index(type);
+        final BitSet candidates = index.candidates(container);
+        final @Nullable CraftingContainer crafting = container instanceof final CraftingContainer c ? c : null;
+        int end = candidates.length();
+        @Nullable RecipeHolder<T> cached = null;
+        if (crafting != null) {
+            final @Nullable LastMatch lastMatch = this.lastMatches.get(crafting);
+            if (lastMatch != null && lastMatch.index() == index && candidates.get(lastMatch.position())
+                && ((RecipeHolder<T>) index.recipes[lastMatch.position()]).value().matches(container, level)) {
+                cached = (RecipeHolder<T>) index.recipes[lastMatch.position()];
+                // Only the recipes ahead of it can still take precedence
+                end = lastMatch.position();
+            }
+        }
+        for (int i = candidates.nextSetBit(0); i >= 0 && i < end; i = candidates.nextSetBit(i + 1)) {
+            final RecipeHolder<T> holder = (RecipeHolder<T>) index.recipes[i];
+            if (holder.value().matches(container, level)) {
+                if (crafting != null) {
+                    this.lastMatches.put(crafting, new LastMatch(index, i));
+                }
+                return Optional.of(holder);
+            }
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    /**
+     * Finds every recipe of the type that matches the container, in the order
+     * the recipes were loaded.
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Container, T extends Recipe<C>> List<RecipeHolder<T>> findAll(final RecipeType<T> type, final C container, final Level level) {
+        final TypeIndex index = this.index(type);
+        final BitSet candidates = index.candidates(container);
+        final List<RecipeHolder<T>> matches = new ArrayList<>();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            final RecipeHolder<T> holder = (RecipeHolder<T>) index.recipes[i];
+            if (holder.value().matches(container, level)) {
+                matches.add(holder);
+            }
+        }
+        return matches;
+    }
+
+    private TypeIndex index(final RecipeType<?> type) {
+        // Built on first use, by then the item tags ingredients refer to are bound
+        synchronized (this.indices) {
+            return this.indices.computeIfAbsent(type, t -> new TypeIndex(this.byType.get(t)));
+        }
+    }
+
+    /**
+     * Gets the items an ingredient can accept, or null if it accepts items
+     * that cannot be known up front or only accepts an empty slot.
+     */
+    private static @Nullable Set<Item> acceptedItems(final Ingredient ingredient) {
+        if (ingredient instanceof SpongeIngredient) {
+            for (final Ingredient.Value value : ingredient.values) {
+                if (value instanceof SpongePredicateItemList || (value instanceof SpongeStackItemList && value.getItems().isEmpty())) {
+                    return null;
+                }
+            }
+        }
+        final ItemStack[] stacks = ingredient.getItems();
+        if (stacks.length == 0) {
+            return null;
+        }
+        final Set<Item> items = new ReferenceOpenHashSet<>();
+        for (final ItemStack stack : stacks) {
+            items.add(stack.getItem());
+        }
+        return items;
+    }
+
+    private record LastMatch(TypeIndex index, int position) {
+    }
+
+    private static final class TypeIndex {
+
+        private final RecipeHolder<?>[] recipes;
+        private final Map<Item, IntArrayList> byItem = new Reference2ObjectOpenHashMap<>();
+        private final BitSet unindexed = new BitSet();
+
+        TypeIndex(final Collection<RecipeHolder<?>> recipes) {
+            this.recipes = recipes.toArray(new RecipeHolder<?>[0]);
+            for (int i = 0; i < this.recipes.length; i++) {
+                final @Nullable Set<Item> key = TypeIndex.key(this.recipes[i].value());
+                if (key == null) {
+                    this.unindexed.set(i);
+                    continue;
+                }
+                for (final Item item : key) {
+                    this.byItem.computeIfAbsent(item, k -> new IntArrayList()).add(i);
+                }
+            }
+        }
+
+        private static @Nullable Set<Item> key(final Recipe<?> recipe) {
+            if (!SpongeRecipeIndex.INDEXABLE.contains(recipe.getClass())) {
+                return null;
+            }
+            @Nullable Set<Item> narrowest = null;
+            for (final Ingredient ingredient : recipe.getIngredients()) {
+                final @Nullable Set<Item> items = SpongeRecipeIndex.acceptedItems(ingredient);
+                if (items != null && (narrowest == null || items.size() < narrowest.size())) {
+                    narrowest = items;
+                }
+            }
+            return narrowest;
+        }
+
+        BitSet candidates(final Container container) {
+            final BitSet candidates = (BitSet) this.unindexed.clone();
+            for (int slot = 0; slot < container.getContainerSize(); slot++) {
+                final ItemStack stack = container.getItem(slot);
+                if (stack.isEmpty()) {
+                    continue;
+                }
+                final @Nullable IntArrayList recipes = this.byItem.get(stack.getItem());
+                if (recipes != null) {
+                    for (int i = 0; i < recipes.size(); i++) {
+                        candidates.set(recipes.getInt(i));
+                    }
+                }
+            }
+            return candidates;
+        }
+    }
+}
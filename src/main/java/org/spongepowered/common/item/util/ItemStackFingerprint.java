@@ -0,0 +1,124 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.util;
+
+import net.minecraft.core.component.DataComponentPatch;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.common.item.SpongeItemStackSnapshot;
+
+/**
+ * Identifies what kind of stack an item stack is, its item type and
+ * component changes, regardless of its quantity. Two stacks with equal
+ * fingerprints stack with each other.
+ *
+ * <p>Fingerprints are immutable and their hash is computed once, which
+ * makes them cheap to use as map keys.</p>
+ */
+public final class ItemStackFingerprint {
+
+    public static final ItemStackFingerprint EMPTY = new ItemStackFingerprint(ItemStack.EMPTY.getItem(), DataComponentPatch.EMPTY);
+
+    private final Item item;
+    private final DataComponentPatch components;
+    private final int hash;
+
+    public static ItemStackFingerprint of(final ItemStack stack) {
+        if (stack.isEmpty()) {
+            return ItemStackFingerprint.EMPTY;
+        }
+        return new ItemStackFingerprint(stack.getItem(), stack.getComponentsPatch());
+    }
+
+    public static ItemStackFingerprint of(final org.spongepowered.api.item.inventory.ItemStack stack) {
+        return ItemStackFingerprint.of(ItemStackUtil.toNative(stack));
+    }
+
+    public static ItemStackFingerprint of(final ItemStackSnapshot snapshot) {
+        if (snapshot instanceof final SpongeItemStackSnapshot spongeSnapshot) {
+            return spongeSnapshot.fingerprint();
+        }
+        return ItemStackFingerprint.of(ItemStackUtil.fromSnapshotToNative(snapshot));
+    }
+
+    private ItemStackFingerprint(final Item item, final DataComponentPatch components) {
+        this.item = item;
+        this.components = components;
+        this.hash = 31 * System.identityHashCode(item) + components.hashCode();
+    }
+
+    public Item item() {
+        return this.item;
+    }
+
+    public DataComponentPatch components() {
+        return this.components;
+    }
+
+    /**
+     * Checks whether the stack is of the kind this fingerprint describes,
+     * without creating a fingerprint for it.
+     */
+    public boolean matches(final ItemStack stack) {
+        if (stack.isEmpty()) {
+            return this == ItemStackFingerprint.EMPTY;
+        }
+        return stack.getItem() == this.item && stack.getComponentsPatch().equals(this.components);
+    }
+
+    /**
+     * Creates a new stack of this kind with the given quantity.
+     */
+    public ItemStack createStack(final int quantity) {
+        if (this == ItemStackFingerprint.EMPTY) {
+            return ItemStack.EMPTY;
+        }
+        final ItemStack stack = new ItemStack(this.item, quantity);
+        stack.applyComponents(this.components);
+        return stack;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof final ItemStackFingerprint that)) {
+            return false;
+        }
+        return this.hash == that.hash && this.item == that.item && this.components.equals(that.components);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ItemStackFingerprint{item=" + this.item + ", components=" + this.components + '}';
+    }
+}
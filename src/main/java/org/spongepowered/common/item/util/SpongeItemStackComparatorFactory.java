@@ -24,16 +24,12 @@
  */
 package org.spongepowered.common.item.util;
 
-import org.spongepowered.api.data.Key;
-import org.spongepowered.api.data.value.Value;
+import net.minecraft.core.registries.BuiltInRegistries;
 import org.spongepowered.api.item.inventory.ItemStack;
 import org.spongepowered.api.item.inventory.ItemStackComparators;
-import org.spongepowered.api.registry.RegistryTypes;
 
 import java.util.Comparator;
-import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public class SpongeItemStackComparatorFactory implements ItemStackComparators.Factory {
 
@@ -48,27 +44,25 @@ public SpongeItemStackComparatorFactory(Comparator<ItemStack> comparator) {
 
     @Override
     public ItemStackComparators.Factory byType() {
-        final Comparator<ItemStack> comparator = Comparator.comparing(i -> i.type().key(RegistryTypes.ITEM_TYPE));
-        return new SpongeItemStackComparatorFactory(this.comparator == null ? comparator : this.comparator.thenComparing(comparator));
+        return this.then(ItemTypeComparator.INSTANCE);
     }
 
     @Override
     public ItemStackComparators.Factory byData() {
-        final Comparator<ItemStack> comparator = new ItemDataComparator();
-        return new SpongeItemStackComparatorFactory(this.comparator == null ? comparator : this.comparator.thenComparing(comparator));
+        return this.then(ItemDataComparator.INSTANCE);
     }
 
     @Override
     public ItemStackComparators.Factory byDurability() {
-
-        final Comparator<ItemStack> comparator = new ItemDataComparator();
-        return new SpongeItemStackComparatorFactory(this.comparator == null ? comparator : this.comparator.thenComparing(comparator));
+        return this.then(Comparator.comparingInt(i -> {
+            final net.minecraft.world.item.ItemStack stack = ItemStackUtil.toNative(i);
+            return stack.getMaxDamage() - stack.getDamageValue();
+        }));
     }
 
     @Override
     public ItemStackComparators.Factory bySize() {
-        final Comparator<ItemStack> comparator = Comparator.comparing(ItemStack::quantity);
-        return new SpongeItemStackComparatorFactory(this.comparator == null ? comparator : this.comparator.thenComparing(this.comparator));
+        return this.then(Comparator.comparingInt(ItemStack::quantity));
     }
 
     @Override
@@ -82,35 +76,58 @@ public Comparator<ItemStack> build() {
         return this.comparator;
     }
 
-    private static final class ItemDataComparator implements Comparator<ItemStack> {
+    private ItemStackComparators.Factory then(final Comparator<ItemStack> comparator) {
+        return new SpongeItemStackComparatorFactory(this.comparator == null ? comparator : this.comparator.thenComparing(comparator));
+    }
 
-        private final Key<? extends Value<?>>[] ignored;
+    /**
+     * Orders stacks by the key of their item type, without going through
+     * the registry when both are of the same type.
+     */
+    private static final class ItemTypeComparator implements Comparator<ItemStack> {
 
-        ItemDataComparator(Key<? extends Value<?>>... ignored) {
-            this.ignored = ignored;
-        }
+        static final ItemTypeComparator INSTANCE = new ItemTypeComparator();
 
         @Override
-        public int compare(ItemStack o1, ItemStack o2) {
-            final Map<? extends Key<? extends Value<?>>, ?> map = o2.getValues().stream().collect(Collectors.toMap(Value::key, Value::get));
-            for (Value.Immutable<?> value : o1.getValues()) {
-                if (map.containsKey(value.key()) && map.get(value.key()).equals(value.get())) {
-                    map.remove(value.key());
-                } else if (!this.isIgnored(map, value)) {
-                    return -1;
-                }
+        public int compare(final ItemStack o1, final ItemStack o2) {
+            final net.minecraft.world.item.Item i1 = ItemStackUtil.toNative(o1).getItem();
+            final net.minecraft.world.item.Item i2 = ItemStackUtil.toNative(o2).getItem();
+            if (i1 == i2) {
+                return 0;
             }
-            return map.size();
+            return BuiltInRegistries.ITEM.getKey(i1).compareTo(BuiltInRegistries.ITEM.getKey(i2));
         }
+    }
+
+    /**
+     * Compares the item type and components stacks have been given, which
+     * back every data value of an item stack, instead of collecting and
+     * comparing the values themselves.
+     *
+     * <p>Stacks with the same data compare as equal. Otherwise, the order is
+     * arbitrary but consistent, so the comparator is safe to sort with.</p>
+     */
+    private static final class ItemDataComparator implements Comparator<ItemStack> {
+
+        static final ItemDataComparator INSTANCE = new ItemDataComparator();
 
-        private boolean isIgnored(Map<? extends Key<? extends Value<?>>, ?> map, Value.Immutable<?> toCheck) {
-            for (Key<? extends Value<?>> ignore : this.ignored) {
-                if (toCheck.key().equals(ignore)) {
-                    map.remove(ignore);
-                    return true;
-                }
+        @Override
+        public int compare(final ItemStack o1, final ItemStack o2) {
+            final net.minecraft.world.item.ItemStack s1 = ItemStackUtil.toNative(o1);
+            final net.minecraft.world.item.ItemStack s2 = ItemStackUtil.toNative(o2);
+            if (s1.getItem() != s2.getItem()) {
+                return Integer.compare(BuiltInRegistries.ITEM.getId(s1.getItem()), BuiltInRegistries.ITEM.getId(s2.getItem()));
+            }
+            if (net.minecraft.world.item.ItemStack.isSameItemSameComponents(s1, s2)) {
+                return 0;
+            }
+            final int hash = Integer.compare(
+                net.minecraft.world.item.ItemStack.hashItemAndComponents(s1), net.minecraft.world.item.ItemStack.hashItemAndComponents(s2));
+            if (hash != 0) {
+                return hash;
             }
-            return false;
+            // Only reached on a hash collision between different components
+            return s1.getComponentsPatch().toString().compareTo(s2.getComponentsPatch().toString());
         }
     }
 }
@@ -29,6 +29,7 @@
 import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.color.MapColor;
 import org.spongepowered.api.map.color.MapColorTypes;
+import org.spongepowered.common.bridge.world.storage.MapItemSavedDataBridge;
 import org.spongepowered.common.util.Constants;
 
 import java.awt.Color;
@@ -84,5 +85,6 @@ public DataContainer toContainer() {
     @Override
     public void applyToMapData(final MapItemSavedData mapData) {
         Arrays.fill(mapData.colors, (byte) 0);
+        ((MapItemSavedDataBridge) mapData).bridge$updateWholeMap();
     }
 }
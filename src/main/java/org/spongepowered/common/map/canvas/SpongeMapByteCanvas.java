@@ -30,12 +30,14 @@
 import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.color.MapColor;
 import org.spongepowered.api.map.color.MapColorTypes;
+import org.spongepowered.common.bridge.world.storage.MapItemSavedDataBridge;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MapUtil;
 
 import java.awt.Color;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 
 // MapCanvas backed by a byte array
 public final class SpongeMapByteCanvas implements SpongeMapCanvas {
@@ -46,9 +48,39 @@ public SpongeMapByteCanvas(final byte[] canvas) {
         this.canvas = canvas;
     }
 
+    /**
+     * Only copies the pixels that differ from what the map currently shows,
+     * and marks the bounding rectangle of those pixels dirty so that only
+     * that region is sent to the players holding the map.
+     */
+    @Override
     public void applyToMapData(final MapItemSavedData mapData) {
-        mapData.colors = this.canvas.clone();
-        mapData.setDirty();
+        final byte[] colors = mapData.colors;
+        int minX = Constants.Map.MAP_PIXELS;
+        int minY = -1;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0; y < Constants.Map.MAP_PIXELS; y++) {
+            final int row = y * Constants.Map.MAP_PIXELS;
+            final int first = Arrays.mismatch(colors, row, row + Constants.Map.MAP_PIXELS, this.canvas, row, row + Constants.Map.MAP_PIXELS);
+            if (first == -1) {
+                continue;
+            }
+            int last = Constants.Map.MAP_MAX_INDEX;
+            while (colors[row + last] == this.canvas[row + last]) {
+                last--;
+            }
+            System.arraycopy(this.canvas, row + first, colors, row + first, last - first + 1);
+            if (minY == -1) {
+                minY = y;
+            }
+            maxY = y;
+            minX = Math.min(minX, first);
+            maxX = Math.max(maxX, last);
+        }
+        if (minY != -1) {
+            ((MapItemSavedDataBridge) mapData).bridge$updateMapRegion(minX, minY, maxX, maxY);
+        }
     }
 
     @Override
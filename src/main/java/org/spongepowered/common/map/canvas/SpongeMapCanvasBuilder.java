@@ -25,12 +25,11 @@
 package org.spongepowered.common.map.canvas;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.map.MapCanvas;
 import org.spongepowered.api.map.color.MapColor;
-import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.common.map.color.SpongeMapColor;
+import org.spongepowered.common.map.color.SpongeMapColorPalette;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MapUtil;
 
@@ -39,8 +38,6 @@
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 public final class SpongeMapCanvasBuilder implements MapCanvas.Builder {
@@ -103,31 +100,33 @@ public MapCanvas.Builder reset() {
 
     @Override
     public MapCanvas.Builder fromImage(final Image image) {
-        Objects.requireNonNull(image, "image cannot be null");
-        if (image.getWidth(null) != Constants.Map.MAP_PIXELS || image.getHeight(null) != Constants.Map.MAP_PIXELS) {
-            throw new IllegalArgumentException("image size was invalid!");
-        }
-        final BufferedImage bufferedImage = this.createBufferedImage(image);
-        final int[] pixels = ((DataBufferInt) bufferedImage.getRaster().getDataBuffer()).getData();
-        // Get the color palette we are working with
-        final Map<Integer, SpongeMapColor> palette = new HashMap<>();
-        Sponge.game().registry(RegistryTypes.MAP_COLOR_TYPE).stream().forEach(color -> {
-            Sponge.game().registry(RegistryTypes.MAP_SHADE).stream().forEach(shade -> {
-                final SpongeMapColor spongeMapColor = new SpongeMapColor(color, shade);
-                palette.put(spongeMapColor.color().rgb(), spongeMapColor);
-            });
-        });
+        final int[] pixels = this.imagePixels(image);
+        final SpongeMapColorPalette palette = SpongeMapColorPalette.get();
         final byte[] canvas = this.getCanvas();
         for (int i = 0; i < pixels.length; i++) {
-            final SpongeMapColor color = palette.get(pixels[i]);
-            if (color == null) {
+            final int color = palette.exact(pixels[i]);
+            if (color == -1) {
                 throw new IllegalArgumentException("Can not find a matching color for rgb value: " + Integer.toHexString(pixels[i]) + ". The MapCanvas will have painted all pixels up to this point.");
             }
-            canvas[i] = color.getMCColor();
+            canvas[i] = (byte) color;
         }
         return this;
     }
 
+    /**
+     * Paints the image onto the canvas, replacing every color that has no
+     * exact map color with the closest one instead of failing.
+     *
+     * @param image The image, must be {@value Constants.Map#MAP_PIXELS} pixels square
+     * @param dither Whether to dither the quantization error into neighbouring pixels
+     * @return This builder, for chaining
+     */
+    public MapCanvas.Builder fromImage(final Image image, final boolean dither) {
+        final int[] pixels = this.imagePixels(image);
+        SpongeMapColorPalette.get().quantize(pixels, this.getCanvas(), dither);
+        return this;
+    }
+
     @Override
     public MapCanvas.Builder fromContainer(final DataView container) {
         Objects.requireNonNull(container, "container cannot be null");
@@ -147,6 +146,15 @@ public MapCanvas build() {
         return new SpongeMapByteCanvas(this.canvas.clone());
     }
 
+    private int[] imagePixels(final Image image) {
+        Objects.requireNonNull(image, "image cannot be null");
+        if (image.getWidth(null) != Constants.Map.MAP_PIXELS || image.getHeight(null) != Constants.Map.MAP_PIXELS) {
+            throw new IllegalArgumentException("image size was invalid!");
+        }
+        final BufferedImage bufferedImage = this.createBufferedImage(image);
+        return ((DataBufferInt) bufferedImage.getRaster().getDataBuffer()).getData();
+    }
+
     private BufferedImage createBufferedImage(final Image image) {
         if (image instanceof BufferedImage) {
             final BufferedImage bufferedImage = (BufferedImage) image;
@@ -0,0 +1,231 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.color;
+
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.map.color.MapColorTypes;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.common.registry.RegistryHolderLogic;
+import org.spongepowered.common.util.Constants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lookup tables from RGB values to map pixel values, built once from the
+ * {@link RegistryTypes#MAP_COLOR_TYPE} and {@link RegistryTypes#MAP_SHADE}
+ * registries and rebuilt only when the registries change.
+ */
+public final class SpongeMapColorPalette {
+
+    // 5 bits per channel, the nearest color is resolved for the center of each bucket
+    private static final int LUT_BITS = 5;
+    private static final int LUT_SHIFT = 8 - SpongeMapColorPalette.LUT_BITS;
+
+    private static volatile @Nullable SpongeMapColorPalette palette;
+
+    private final int generation;
+    private final Int2IntOpenHashMap exact = new Int2IntOpenHashMap();
+    private final Int2IntOpenHashMap exactOpaque = new Int2IntOpenHashMap();
+    private final int[] rgb = new int[256];
+    private final byte[] nearest = new byte[1 << (SpongeMapColorPalette.LUT_BITS * 3)];
+
+    public static SpongeMapColorPalette get() {
+        final int generation = RegistryHolderLogic.generation();
+        @Nullable SpongeMapColorPalette palette = SpongeMapColorPalette.palette;
+        if (palette == null || palette.generation != generation) {
+            palette = new SpongeMapColorPalette(generation);
+            SpongeMapColorPalette.palette = palette;
+        }
+        return palette;
+    }
+
+    private SpongeMapColorPalette(final int generation) {
+        this(generation, SpongeMapColorPalette.registeredColors());
+    }
+
+    private static List<Entry> registeredColors() {
+        final List<Entry> colors = new ArrayList<>();
+        Sponge.game().registry(RegistryTypes.MAP_COLOR_TYPE).stream().forEach(type ->
+            Sponge.game().registry(RegistryTypes.MAP_SHADE).stream().forEach(shade -> {
+                final SpongeMapColor color = new SpongeMapColor(type, shade);
+                colors.add(new Entry(color.getMCColor(), color.color().rgb(), type != MapColorTypes.NONE.get()));
+            }));
+        return colors;
+    }
+
+    /**
+     * Builds the tables for the given colors.
+     *
+     * @param generation The registry generation the colors were read at
+     * @param colors The pixel values and the colors they render as
+     */
+    SpongeMapColorPalette(final int generation, final List<Entry> colors) {
+        this.generation = generation;
+        this.exact.defaultReturnValue(-1);
+        this.exactOpaque.defaultReturnValue(-1);
+
+        final IntArrayList candidateRgb = new IntArrayList();
+        final ByteArrayList candidateColors = new ByteArrayList();
+        for (final Entry color : colors) {
+            this.exact.put(color.rgb(), Byte.toUnsignedInt(color.pixel()));
+            this.rgb[Byte.toUnsignedInt(color.pixel())] = color.rgb();
+            // Transparent pixels are only ever produced by an exact match
+            if (color.opaque()) {
+                this.exactOpaque.put(color.rgb(), Byte.toUnsignedInt(color.pixel()));
+                candidateRgb.add(color.rgb());
+                candidateColors.add(color.pixel());
+            }
+        }
+
+        final int[] candidates = candidateRgb.toIntArray();
+        final int buckets = 1 << SpongeMapColorPalette.LUT_BITS;
+        final int half = 1 << (SpongeMapColorPalette.LUT_SHIFT - 1);
+        for (int r = 0; r < buckets; r++) {
+            for (int g = 0; g < buckets; g++) {
+                for (int b = 0; b < buckets; b++) {
+                    final int index = SpongeMapColorPalette.nearestIndex(candidates,
+                        (r << SpongeMapColorPalette.LUT_SHIFT) | half,
+                        (g << SpongeMapColorPalette.LUT_SHIFT) | half,
+                        (b << SpongeMapColorPalette.LUT_SHIFT) | half);
+                    this.nearest[(r << (2 * SpongeMapColorPalette.LUT_BITS)) | (g << SpongeMapColorPalette.LUT_BITS) | b] =
+                        candidateColors.getByte(index);
+                }
+            }
+        }
+    }
+
+    private static int nearestIndex(final int[] candidates, final int r, final int g, final int b) {
+        int best = 0;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < candidates.length; i++) {
+            final int dr = ((candidates[i] >> 16) & 0xFF) - r;
+            final int dg = ((candidates[i] >> 8) & 0xFF) - g;
+            final int db = (candidates[i] & 0xFF) - b;
+            // Weighted towards green, the eye is most sensitive to it
+            final int distance = 2 * dr * dr + 4 * dg * dg + 3 * db * db;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the pixel value that renders exactly as the given color.
+     *
+     * @param rgb The color, as 0xRRGGBB
+     * @return The unsigned pixel value, or {@code -1} if no map color matches
+     */
+    public int exact(final int rgb) {
+        return this.exact.get(rgb & 0xFFFFFF);
+    }
+
+    /**
+     * Gets the opaque pixel value that renders closest to the given color.
+     */
+    public byte nearest(final int r, final int g, final int b) {
+        return this.nearest[((r >> SpongeMapColorPalette.LUT_SHIFT) << (2 * SpongeMapColorPalette.LUT_BITS))
+            | ((g >> SpongeMapColorPalette.LUT_SHIFT) << SpongeMapColorPalette.LUT_BITS)
+            | (b >> SpongeMapColorPalette.LUT_SHIFT)];
+    }
+
+    /**
+     * Gets the color a pixel value renders as, as 0xRRGGBB.
+     */
+    public int rgb(final byte pixel) {
+        return this.rgb[Byte.toUnsignedInt(pixel)];
+    }
+
+    /**
+     * Converts a full canvas of 0xRRGGBB pixels to the nearest map colors,
+     * optionally spreading the quantization error with Floyd-Steinberg
+     * dithering to keep gradients smooth.
+     *
+     * @param pixels The source pixels, row by row
+     * @param canvas The map canvas to write to
+     * @param dither Whether to dither
+     */
+    public void quantize(final int[] pixels, final byte[] canvas, final boolean dither) {
+        if (!dither) {
+            for (int i = 0; i < pixels.length; i++) {
+                final int exact = this.exactOpaque.get(pixels[i] & 0xFFFFFF);
+                canvas[i] = exact != -1 ? (byte) exact
+                    : this.nearest((pixels[i] >> 16) & 0xFF, (pixels[i] >> 8) & 0xFF, pixels[i] & 0xFF);
+            }
+            return;
+        }
+        final int width = Constants.Map.MAP_PIXELS;
+        // Error carried into the current and the next row, padded by one pixel on each side
+        int[] current = new int[(width + 2) * 3];
+        int[] next = new int[(width + 2) * 3];
+        for (int y = 0, pos = 0; y < width; y++) {
+            for (int x = 0; x < width; x++, pos++) {
+                final int e = (x + 1) * 3;
+                final int r = SpongeMapColorPalette.clamp(((pixels[pos] >> 16) & 0xFF) + (current[e] >> 4));
+                final int g = SpongeMapColorPalette.clamp(((pixels[pos] >> 8) & 0xFF) + (current[e + 1] >> 4));
+                final int b = SpongeMapColorPalette.clamp((pixels[pos] & 0xFF) + (current[e + 2] >> 4));
+                final int exact = this.exactOpaque.get((r << 16) | (g << 8) | b);
+                final byte pixel = exact != -1 ? (byte) exact : this.nearest(r, g, b);
+                canvas[pos] = pixel;
+
+                final int rgb = this.rgb(pixel);
+                final int er = r - ((rgb >> 16) & 0xFF);
+                final int eg = g - ((rgb >> 8) & 0xFF);
+                final int eb = b - (rgb & 0xFF);
+                SpongeMapColorPalette.spread(current, e + 3, er, eg, eb, 7);
+                SpongeMapColorPalette.spread(next, e - 3, er, eg, eb, 3);
+                SpongeMapColorPalette.spread(next, e, er, eg, eb, 5);
+                SpongeMapColorPalette.spread(next, e + 3, er, eg, eb, 1);
+            }
+            final int[] swap = current;
+            current = next;
+            next = swap;
+            Arrays.fill(next, 0);
+        }
+    }
+
+    private static void spread(final int[] errors, final int index, final int r, final int g, final int b, final int weight) {
+        errors[index] += r * weight;
+        errors[index + 1] += g * weight;
+        errors[index + 2] += b * weight;
+    }
+
+    private static int clamp(final int channel) {
+        return channel < 0 ? 0 : Math.min(channel, 0xFF);
+    }
+
+    /**
+     * A pixel value and the color it renders as, as 0xRRGGBB.
+     */
+    record Entry(byte pixel, int rgb, boolean opaque) {
+    }
+}
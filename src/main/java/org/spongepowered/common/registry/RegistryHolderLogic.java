@@ -48,6 +48,7 @@
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -55,6 +56,12 @@
 
 public final class RegistryHolderLogic implements RegistryHolder {
 
+    /**
+     * Incremented whenever any holder gains, replaces or freezes registries,
+     * invalidating values memoized by {@link SpongeDefaultedRegistryReference}.
+     */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
     private final Map<ResourceKey, net.minecraft.core.Registry<net.minecraft.core.Registry<?>>> roots = new Object2ObjectOpenHashMap<>();
 
     public RegistryHolderLogic() {
@@ -76,6 +83,7 @@ public RegistryHolderLogic() {
                 Lifecycle.stable()
             )
         );
+        RegistryHolderLogic.GENERATION.incrementAndGet();
     }
 
     public RegistryHolderLogic(final RegistryAccess dynamicAccess) {
@@ -86,10 +94,16 @@ public RegistryHolderLogic(final RegistryAccess dynamicAccess) {
 
         dynamicAccess.registries().forEach(entry -> root.register(entry.key(), entry.value(), RegistrationInfo.BUILT_IN));
         root.freeze();
+        RegistryHolderLogic.GENERATION.incrementAndGet();
+    }
+
+    public static int generation() {
+        return RegistryHolderLogic.GENERATION.get();
     }
 
     public void setRootMinecraftRegistry(final net.minecraft.core.Registry<net.minecraft.core.Registry<?>> rootRegistry) {
         this.roots.put(RegistryRoots.MINECRAFT, rootRegistry);
+        RegistryHolderLogic.GENERATION.incrementAndGet();
     }
 
     @Override
@@ -209,15 +223,18 @@ public <T> Registry<T> createRegistry(final RegistryType<T> type, final @Nullabl
             ((CallbackRegistry<?>) registry).setCallbackEnabled(true);
         }
         ((MappedRegistryAccessor<T>) root).accessor$frozen(frozen);
+        RegistryHolderLogic.GENERATION.incrementAndGet();
 
         return (Registry<T>) registry;
     }
 
     public void freezeSpongeRootRegistry() {
         this.roots.get(RegistryRoots.SPONGE).freeze();
+        RegistryHolderLogic.GENERATION.incrementAndGet();
     }
 
     public void freezeSpongeDynamicRegistries() {
         this.roots.get(RegistryRoots.SPONGE).forEach(net.minecraft.core.Registry::freeze);
+        RegistryHolderLogic.GENERATION.incrementAndGet();
     }
 }
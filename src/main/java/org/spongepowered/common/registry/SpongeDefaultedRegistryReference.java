@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.registry;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.registry.DefaultedRegistryReference;
 import org.spongepowered.api.registry.Registry;
 import org.spongepowered.api.registry.RegistryHolder;
@@ -36,6 +37,7 @@
 public final class SpongeDefaultedRegistryReference<T> extends SpongeRegistryReference<T> implements DefaultedRegistryReference<T> {
 
     private final Supplier<RegistryHolder> defaultHolder;
+    private @Nullable Resolved<T> resolved;
 
     public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier<RegistryHolder> defaultHolder) {
         super(key);
@@ -45,17 +47,36 @@ public SpongeDefaultedRegistryReference(final RegistryKey<T> key, final Supplier
 
     @Override
     public T get() {
-        return this.defaultHolder.get().registry(this.registry()).value(this.location());
+        final int generation = RegistryHolderLogic.generation();
+        final @Nullable Resolved<T> resolved = this.resolved;
+        if (resolved != null && resolved.generation == generation) {
+            return resolved.value;
+        }
+        final T value = this.defaultHolder.get().registry(this.registry()).value(this.location());
+        this.resolved = new Resolved<>(generation, value);
+        return value;
     }
 
     @Override
     public Optional<T> find() {
+        final int generation = RegistryHolderLogic.generation();
+        final @Nullable Resolved<T> resolved = this.resolved;
+        if (resolved != null && resolved.generation == generation) {
+            return Optional.of(resolved.value);
+        }
         final Optional<Registry<T>> registry = this.defaultHolder.get().findRegistry(this.registry());
-        return registry.flatMap(r -> r.findValue(this.location()));
+        final Optional<T> value = registry.flatMap(r -> r.findValue(this.location()));
+        value.ifPresent(v -> this.resolved = new Resolved<>(generation, v));
+        return value;
     }
 
     @Override
     public Supplier<RegistryHolder> defaultHolder() {
         return this.defaultHolder;
     }
+
+    // Final fields publish the pair safely, so a racing reader sees either a
+    // complete entry or a stale one that fails the generation check.
+    private record Resolved<T>(int generation, T value) {
+    }
 }
@@ -57,6 +57,7 @@ abstract class ActivePagination {
     private final @Nullable Component header;
     private final @Nullable Component footer;
     private int currentPage;
+    private volatile long lastAccessed = System.nanoTime();
     private final int maxContentLinesPerPage;
     protected final PaginationCalculator calc;
     private final Component padding;
@@ -104,6 +105,10 @@ public UUID getId() {
         return this.id;
     }
 
+    long getLastAccessed() {
+        return this.lastAccessed;
+    }
+
     protected abstract Iterable<Component> getLines(int page) throws CommandException;
 
     protected abstract boolean hasPrevious(int page);
@@ -132,6 +137,7 @@ public void specificPage(final int page) throws CommandException {
         final Audience src = this.src.get()
                 .orElseThrow(() -> new CommandException(Component.text("Source for pagination " + this.getId() + " is no longer active!")));
         this.currentPage = page;
+        this.lastAccessed = System.nanoTime();
 
         final List<Component> toSend = new ArrayList<>();
         final Component title = this.title;
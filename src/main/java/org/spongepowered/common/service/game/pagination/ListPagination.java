@@ -25,6 +25,8 @@
 package org.spongepowered.common.service.game.pagination;
 
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -32,55 +34,71 @@
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
 
 /**
  * Pagination working with a list of values.
+ *
+ * <p>Pages are found on demand: lines are only measured up to the end of
+ * the furthest page requested so far, and only the index of the first line
+ * of each page is kept, not the pages themselves.</p>
  */
 final class ListPagination extends ActivePagination {
 
-    private final List<List<Component>> pages;
+    private static final int MEASURE_AHEAD_LINES = 1000;
+
+    private final List<Component> lines;
+    // The first line of every page found so far, followed by the end of the last one
+    private final IntList pageStarts = new IntArrayList();
+    // The content lines each page found so far takes up, used for padding
+    private final IntList pageLines = new IntArrayList();
+    private boolean complete;
 
     public ListPagination(final Supplier<Optional<? extends Audience>> src, final PaginationCalculator calc,
-            final List<Map.Entry<Component, Integer>> lines, final @Nullable Component title,
+            final List<Component> lines, final @Nullable Component title,
             final @Nullable Component header, final @Nullable Component footer, final Component padding) {
         super(src, calc, title, header, footer, padding);
-        final List<List<Component>> pages = new ArrayList<>();
-        List<Component> currentPage = new ArrayList<>();
-        int currentPageLines = 0;
+        this.lines = lines;
+        this.pageStarts.add(0);
+    }
 
-        for (final Map.Entry<Component, Integer> ent : lines) {
-            final boolean finiteLinesPerPage = this.getMaxContentLinesPerPage() > 0;
-            final boolean willExceedPageLength = ent.getValue() + currentPageLines > this.getMaxContentLinesPerPage();
-            final boolean currentPageNotEmpty = currentPageLines != 0;
-            final boolean spillToNextPage = finiteLinesPerPage && willExceedPageLength && currentPageNotEmpty;
-            if (spillToNextPage) {
-                this.padPage(currentPage, currentPageLines, true);
-                currentPageLines = 0;
-                pages.add(currentPage);
-                currentPage = new ArrayList<>();
+    /**
+     * Measures lines until the given page has been found, or there are
+     * no more lines left.
+     *
+     * @param page The page to find
+     */
+    private void findPages(final int page) {
+        final int maxContentLinesPerPage = this.getMaxContentLinesPerPage();
+        while (!this.complete && this.pageLines.size() < page) {
+            int end = this.pageStarts.getInt(this.pageStarts.size() - 1);
+            int currentPageLines = 0;
+            while (end < this.lines.size()) {
+                final int lines = this.calc.getLines(this.lines.get(end));
+                final boolean finiteLinesPerPage = maxContentLinesPerPage > 0;
+                final boolean willExceedPageLength = lines + currentPageLines > maxContentLinesPerPage;
+                final boolean currentPageNotEmpty = currentPageLines != 0;
+                if (finiteLinesPerPage && willExceedPageLength && currentPageNotEmpty) {
+                    break;
+                }
+                currentPageLines += lines;
+                end++;
             }
-            currentPageLines += ent.getValue();
-            currentPage.add(ent.getKey());
-        }
-        //last page is not yet committed
-        final boolean lastPageNotEmpty = currentPageLines > 0;
-        if (lastPageNotEmpty) {
-            if (!pages.isEmpty()) {
-                // Only pad if we have a previous page
-                this.padPage(currentPage, currentPageLines, false);
+            this.complete = end == this.lines.size();
+            // A trailing page without any lines to show is dropped
+            if (currentPageLines > 0) {
+                this.pageStarts.add(end);
+                this.pageLines.add(currentPageLines);
             }
-            pages.add(currentPage);
         }
-        this.pages = pages;
     }
 
     @Override
     protected Iterable<Component> getLines(final int page) throws CommandException {
-        final int size = this.pages.size();
+        this.findPages(Math.max(page, 1));
+        final int size = this.pageLines.size();
         if (size == 0) {
             return ImmutableList.of();
         } else if (page < 1) {
@@ -88,7 +106,16 @@ protected Iterable<Component> getLines(final int page) throws CommandException {
         } else if (page > size) {
             throw new CommandException(Component.text(String.format("Page %s is greater than the max of %s!", page, size)));
         }
-        return this.pages.get(page - 1);
+        final List<Component> lines = new ArrayList<>(this.lines.subList(this.pageStarts.getInt(page - 1), this.pageStarts.getInt(page)));
+        final int currentPageLines = this.pageLines.getInt(page - 1);
+        this.findPages(page + 1);
+        if (page < this.pageLines.size()) {
+            this.padPage(lines, currentPageLines, true);
+        } else if (page > 1) {
+            // Only pad the last page if we have a previous page
+            this.padPage(lines, currentPageLines, false);
+        }
+        return lines;
     }
 
     @Override
@@ -98,11 +125,16 @@ protected boolean hasPrevious(final int page) {
 
     @Override
     protected boolean hasNext(final int page) {
-        return page < this.pages.size();
+        this.findPages(page + 1);
+        return page < this.pageLines.size();
     }
 
     @Override
     protected int getTotalPages() {
-        return this.pages.size();
+        // Short lists are measured in full to show the page count, longer ones only once the viewer gets that far
+        if (!this.complete && this.lines.size() - this.pageStarts.getInt(this.pageStarts.size() - 1) <= ListPagination.MEASURE_AHEAD_LINES) {
+            this.findPages(Integer.MAX_VALUE);
+        }
+        return this.complete ? this.pageLines.size() : -1;
     }
 }
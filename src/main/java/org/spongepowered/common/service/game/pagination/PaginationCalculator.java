@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.service.game.pagination;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.annotations.VisibleForTesting;
 import net.kyori.adventure.text.BuildableComponent;
 import net.kyori.adventure.text.Component;
@@ -57,6 +59,9 @@ final class PaginationCalculator {
     private static final int[] NON_UNICODE_CHAR_WIDTHS;
     private static final byte[] UNICODE_CHAR_WIDTHS;
     private static final int LINE_WIDTH = 320;
+    // Components are immutable and the same lines tend to be paginated over and over (ban lists, logs),
+    // so line counts are remembered for as long as the component itself is reachable.
+    private static final Cache<Component, Integer> LINE_COUNTS = Caffeine.newBuilder().weakKeys().build();
 
     private final int linesPerPage;
 
@@ -95,7 +100,7 @@ int getLinesPerPage() {
      */
     int getLines(final Component text) {
         //TODO: this needs fixing as well.
-        return (int) Math.ceil((double) this.getWidth(text) / PaginationCalculator.LINE_WIDTH);
+        return PaginationCalculator.LINE_COUNTS.get(text, t -> (int) Math.ceil((double) this.getWidth(t) / PaginationCalculator.LINE_WIDTH));
     }
 
     /**
@@ -26,6 +26,7 @@
 
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.identity.Identity;
@@ -44,8 +45,6 @@
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 
 public final class SpongePaginationList implements PaginationList {
@@ -106,10 +105,6 @@ public void sendTo(final Audience receiver, final int page) {
         Objects.requireNonNull(receiver, "The message receiver cannot be null!");
 
         final PaginationCalculator calculator = new PaginationCalculator(this.linesPerPage);
-        final Iterable<Map.Entry<Component, Integer>> counts = StreamSupport.stream(this.contents.spliterator(), false).map(input -> {
-            final int lines = calculator.getLines(input);
-            return Maps.immutableEntry(input, lines);
-        }).collect(Collectors.toList());
 
         Component title = this.title;
         if (title != null) {
@@ -129,9 +124,11 @@ public void sendTo(final Audience receiver, final int page) {
 
         final ActivePagination pagination;
         if (this.contents instanceof List) { // If it started out as a list, it's probably reasonable to copy it to another list
-            pagination = new ListPagination(audienceSupplier, calculator, ImmutableList.copyOf(counts), title, this.header,
+            pagination = new ListPagination(audienceSupplier, calculator, ImmutableList.copyOf(this.contents), title, this.header,
                     this.footer, this.paginationSpacer);
         } else {
+            final Iterable<Map.Entry<Component, Integer>> counts = Iterables.transform(this.contents,
+                    input -> Maps.immutableEntry(input, calculator.getLines(input)));
             pagination = new IterablePagination(audienceSupplier, calculator, counts, title, this.header,
                     this.footer, this.paginationSpacer);
         }
@@ -48,12 +48,14 @@
 import org.spongepowered.common.command.SpongeCommandCompletion;
 
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -63,27 +65,56 @@ public final class SpongePaginationService implements PaginationService {
 
     static final class SourcePaginations {
 
-        private final Map<UUID, ActivePagination> paginations = new ConcurrentHashMap<>();
+        // Every message sent with a pagination creates a new one, only keep the most recent
+        // few around and drop those nobody has paged through for a while.
+        private static final int MAX_PAGINATIONS = 16;
+        private static final long EXPIRE_AFTER_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+        private final Map<UUID, ActivePagination> paginations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<UUID, ActivePagination> eldest) {
+                return this.size() > SourcePaginations.MAX_PAGINATIONS;
+            }
+        };
         private @Nullable volatile UUID lastUuid;
 
         @Nullable public ActivePagination get(final UUID uuid) {
-            return this.paginations.get(uuid);
+            synchronized (this.paginations) {
+                this.expire();
+                return this.paginations.get(uuid);
+            }
         }
 
         public void put(final ActivePagination pagination) {
             synchronized (this.paginations) {
+                this.expire();
                 this.paginations.put(pagination.getId(), pagination);
                 this.lastUuid = pagination.getId();
             }
         }
 
         public Set<UUID> keys() {
-            return this.paginations.keySet();
+            synchronized (this.paginations) {
+                this.expire();
+                return new HashSet<>(this.paginations.keySet());
+            }
         }
 
         public @Nullable UUID getLastUuid() {
             return this.lastUuid;
         }
+
+        private void expire() {
+            final long now = System.nanoTime();
+            // Access ordered, so the least recently used paginations come first
+            final Iterator<ActivePagination> iterator = this.paginations.values().iterator();
+            while (iterator.hasNext()) {
+                if (now - iterator.next().getLastAccessed() < SourcePaginations.EXPIRE_AFTER_NANOS) {
+                    break;
+                }
+                iterator.remove();
+            }
+        }
     }
 
     private final ConcurrentMap<Audience, SourcePaginations> activePaginations = new MapMaker().weakKeys().makeMap();
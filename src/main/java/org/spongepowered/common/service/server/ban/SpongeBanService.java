@@ -30,6 +30,7 @@
 import net.minecraft.server.players.StoredUserEntry;
 import net.minecraft.server.players.UserBanList;
 import net.minecraft.server.players.UserBanListEntry;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.profile.GameProfile;
@@ -92,58 +93,32 @@ public CompletableFuture<Collection<Ban.IP>> ipBans() {
         return CompletableFuture.completedFuture(Collections.unmodifiableCollection(new ArrayList<>((Collection<Ban.IP>) (Object) accessor.accessor$map().values())));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletableFuture<Optional<Ban.Profile>> find(final GameProfile profile) {
-        final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry> accessor =
-            (StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) this.getUserBanList();
-        accessor.invoker$removeExpired();
-        return CompletableFuture.completedFuture(Optional.ofNullable((Ban.Profile) accessor.accessor$map().get(accessor.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile)))));
+        return CompletableFuture.completedFuture(Optional.ofNullable((Ban.Profile) this.getEntry(profile)));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletableFuture<Optional<Ban.IP>> find(final InetAddress address) {
-        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-
-        accessor.invoker$removeExpired();
-        return CompletableFuture.completedFuture(Optional.ofNullable((Ban.IP) accessor.accessor$map().get(accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0))))));
+        return CompletableFuture.completedFuture(Optional.ofNullable((Ban.IP) this.getEntry(address)));
     }
 
-    @SuppressWarnings("unchecked")
     public boolean isBanned(final GameProfile profile) {
-        final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry> accessor =
-            (StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) this.getUserBanList();
-
-        accessor.invoker$removeExpired();
-        return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile)));
+        return this.getEntry(profile) != null;
     }
 
-    @SuppressWarnings("unchecked")
     public boolean isBanned(final InetAddress address) {
-        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-
-        accessor.invoker$removeExpired();
-        return accessor.accessor$map().containsKey(accessor.invoker$getKeyForUser(((IpBanListAccessor) accessor).invoker$getIpFromAddress(new InetSocketAddress(address, 0))));
+        return this.getEntry(address) != null;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletableFuture<Boolean> pardon(final GameProfile profile) {
-        final CompletableFuture<Optional<Ban.Profile>> ban = this.find(profile);
-        final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry> accessor =
-            (StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) this.getUserBanList();
-        accessor.invoker$removeExpired();
-        return ban.thenCompose(result -> result.map(this::remove).orElse(CompletableFuture.completedFuture(false)));
+        return this.find(profile).thenCompose(result -> result.map(this::remove).orElse(CompletableFuture.completedFuture(false)));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletableFuture<Boolean> pardon(final InetAddress address) {
-        final CompletableFuture<Optional<Ban.IP>> ban = this.find(address);
-        final StoredUserListAccessor<String, IpBanListEntry> accessor = ((StoredUserListAccessor<String, IpBanListEntry>) this.getIPBanList());
-        accessor.invoker$removeExpired();
-        return ban.thenCompose(result -> result.map(this::remove).orElse(CompletableFuture.completedFuture(false)));
+        return this.find(address).thenCompose(result -> result.map(this::remove).orElse(CompletableFuture.completedFuture(false)));
     }
 
     @Override
@@ -200,6 +175,19 @@ public boolean hasBan(final Ban ban) {
         throw new IllegalArgumentException(String.format("Ban %s had unrecognized BanType %s!", ban, ban.type()));
     }
 
+    @SuppressWarnings("unchecked")
+    private @Nullable UserBanListEntry getEntry(final GameProfile profile) {
+        final UserBanList list = this.getUserBanList();
+        // Look the ban up directly, rather than purging every expired ban of the list first
+        return UserListUtil.getEntry(list, ((StoredUserListAccessor<com.mojang.authlib.GameProfile, UserBanListEntry>) list)
+            .invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile)));
+    }
+
+    private @Nullable IpBanListEntry getEntry(final InetAddress address) {
+        final IpBanList list = this.getIPBanList();
+        return UserListUtil.getEntry(list, ((IpBanListAccessor) list).invoker$getIpFromAddress(new InetSocketAddress(address, 0)));
+    }
+
     private UserBanList getUserBanList() {
         return SpongeCommon.server().getPlayerList().getBans();
     }
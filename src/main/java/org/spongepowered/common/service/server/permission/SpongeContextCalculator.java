@@ -77,7 +77,7 @@ private LoadingCache<RemoteConnection, Set<Context>> buildAddressCache(final Str
                     return builder.build();
                 }
                 builder.add(new Context(contextKey, addr.getHostAddress()));
-                for (final Map.Entry<String, Predicate<InetAddress>> entry : SpongeConfigs.getCommon().get().getIpSets().entrySet()) {
+                for (final Map.Entry<String, Predicate<InetAddress>> entry : SpongeConfigs.getCommonSnapshot().ipSets().entrySet()) {
                     if (entry.getValue().test(addr)) {
                         builder.add(new Context(contextKey, entry.getKey()));
                     }
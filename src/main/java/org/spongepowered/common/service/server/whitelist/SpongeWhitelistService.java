@@ -62,8 +62,8 @@ public CompletableFuture<Boolean> isWhitelisted(final GameProfile profile) {
         final StoredUserListAccessor<com.mojang.authlib.GameProfile, UserWhiteListEntry> whitelist = (StoredUserListAccessor<com.mojang.authlib.GameProfile, UserWhiteListEntry>) SpongeWhitelistService
             .getWhitelist();
 
-        whitelist.invoker$removeExpired();
-        return CompletableFuture.completedFuture(whitelist.accessor$map().containsKey(whitelist.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile))));
+        return CompletableFuture.completedFuture(UserListUtil.getEntry(SpongeWhitelistService.getWhitelist(),
+            whitelist.invoker$getKeyForUser(SpongeGameProfile.toMcProfile(profile))) != null);
     }
 
     @Override
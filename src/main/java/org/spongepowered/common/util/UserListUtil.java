@@ -26,35 +26,103 @@
 
 import net.minecraft.server.players.StoredUserEntry;
 import net.minecraft.server.players.StoredUserList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.accessor.server.players.StoredUserEntryAccessor;
 import org.spongepowered.common.accessor.server.players.StoredUserListAccessor;
+import org.spongepowered.common.launch.Launch;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public final class UserListUtil {
 
+    // Lists changed since they were last written. Each is written once, shortly
+    // after its first change, so bursts of changes don't rewrite the file each time.
+    private static final Set<StoredUserList<?, ?>> PENDING_SAVES = ConcurrentHashMap.newKeySet();
+    private static final long SAVE_DELAY_SECONDS = 1;
+
+    /**
+     * Gets the entry stored under the given key, without going through every
+     * entry of the list to remove the expired ones. If the entry itself has
+     * expired, it is removed instead.
+     *
+     * @param list The list
+     * @param key The key, as given by the list for the user
+     * @param <K> The user type
+     * @param <V> The entry type
+     * @return The entry, if present and not expired
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V extends StoredUserEntry<K>> @Nullable V getEntry(final StoredUserList<K, V> list, final String key) {
+        final Map<String, V> map = ((StoredUserListAccessor<K, V>) list).accessor$map();
+        final @Nullable V entry = map.get(key);
+        if (entry != null && ((StoredUserEntryAccessor<K>) entry).invoker$hasExpired()) {
+            map.remove(key);
+            UserListUtil.scheduleSave(list);
+            return null;
+        }
+        return entry;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     public static <K, V extends StoredUserEntry<K>> V addEntry(final StoredUserList<K, V> list, final StoredUserEntry entry) {
         final V prev = ((StoredUserListAccessor<K, V>) list).accessor$map().put(((StoredUserListAccessor<K, V>) list).invoker$getKeyForUser(((StoredUserEntryAccessor<K>) entry).accessor$user()), (V) entry);
-
-        try {
-            list.save();
-        } catch (final IOException e) {
-            StoredUserListAccessor.accessor$LOGGER().warn("Could not save the list after adding a user.", e);
-        }
+        UserListUtil.scheduleSave(list);
         return prev;
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     public static <K, V extends StoredUserEntry<K>> V removeEntry(final StoredUserList<K, V> list, final Object object) {
         final V prev = ((StoredUserListAccessor<K, V>) list).accessor$map().remove(((StoredUserListAccessor) list).invoker$getKeyForUser(object));
+        UserListUtil.scheduleSave(list);
+        return prev;
+    }
+
+    /**
+     * Queues the given list to be written to disk on the main thread, unless
+     * it already is.
+     *
+     * @param list The list
+     */
+    public static void scheduleSave(final StoredUserList<?, ?> list) {
+        if (UserListUtil.PENDING_SAVES.add(list)) {
+            Sponge.server().scheduler().submit(Task.builder()
+                .execute(() -> {
+                    if (UserListUtil.PENDING_SAVES.remove(list)) {
+                        UserListUtil.save(list);
+                    }
+                })
+                .delay(UserListUtil.SAVE_DELAY_SECONDS, TimeUnit.SECONDS)
+                .plugin(Launch.instance().commonPlugin())
+                .build());
+        }
+    }
 
+    /**
+     * Writes every list with pending changes to disk now.
+     */
+    public static void savePending() {
+        final List<StoredUserList<?, ?>> lists = new ArrayList<>(UserListUtil.PENDING_SAVES);
+        for (final StoredUserList<?, ?> list : lists) {
+            if (UserListUtil.PENDING_SAVES.remove(list)) {
+                UserListUtil.save(list);
+            }
+        }
+    }
+
+    private static void save(final StoredUserList<?, ?> list) {
         try {
             list.save();
         } catch (final IOException e) {
-            StoredUserListAccessor.accessor$LOGGER().warn("Could not save the list after removing a user.", e);
+            StoredUserListAccessor.accessor$LOGGER().warn("Could not save the list after changing it.", e);
         }
-        return prev;
     }
 
     private UserListUtil() {
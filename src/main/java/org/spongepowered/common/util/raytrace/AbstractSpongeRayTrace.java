@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.util.raytrace;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -39,10 +40,10 @@
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -50,6 +51,9 @@
 
 public abstract class AbstractSpongeRayTrace<T extends Locatable> implements RayTrace<@NonNull T> {
 
+    // The length of ray, in blocks, that entities are gathered for at once
+    private static final double ENTITY_SEGMENT_LENGTH = 16;
+
     private final Predicate<T> defaultFilter;
 
     int limit = 30;
@@ -152,52 +156,76 @@
     @Override
     public @NonNull Optional<RayTraceResult<@NonNull T>> execute() {
         this.setupEnd();
+        return this.trace(this.resolveWorld(), this.start, this.end, new Cursor());
+    }
 
-        // get the direction
-        final Vector3d directionWithLength = this.end.sub(this.start);
-        final double length = directionWithLength.length();
-        final Vector3d direction = directionWithLength.normalize();
-        if (direction.lengthSquared() == 0) {
-            throw new IllegalStateException("The start and end must be two different vectors");
+    /**
+     * Traces a ray from each source position to the end position at the same
+     * index, using the world and filters of this ray trace.
+     *
+     * <p>The world is resolved once and a single cursor is reused for every
+     * ray, so tracing many rays at once is considerably cheaper than
+     * configuring and executing a ray trace per ray.</p>
+     *
+     * @param sources The positions the rays start at
+     * @param ends The positions the rays end at
+     * @return The result of each ray, in the order they were supplied
+     */
+    public final List<Optional<RayTraceResult<@NonNull T>>> executeBatch(final List<Vector3d> sources, final List<Vector3d> ends) {
+        if (sources.size() != ends.size()) {
+            throw new IllegalArgumentException("There must be as many end positions as there are source positions");
         }
+        if (this.world == null) {
+            throw new IllegalStateException("world cannot be null");
+        }
+        if (this.select == null) {
+            throw new IllegalStateException("select filter cannot be null");
+        }
+        final ServerWorld serverWorld = this.resolveWorld();
+        final Cursor cursor = new Cursor();
+        final List<Optional<RayTraceResult<@NonNull T>>> results = new ArrayList<>(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            results.add(this.trace(serverWorld, sources.get(i), ends.get(i), cursor));
+        }
+        return results;
+    }
 
-        final ServerWorld serverWorld = Sponge.server().worldManager().world(this.world)
+    private ServerWorld resolveWorld() {
+        return Sponge.server().worldManager().world(this.world)
                 .orElseThrow(() -> new IllegalStateException("World with key " + this.world.formatted() + " is not loaded!"));
+    }
 
-        Vector3i currentBlock = this.initialBlock(direction);
-        final Vector3i steps = this.createSteps(direction);
+    private Optional<RayTraceResult<@NonNull T>> trace(final ServerWorld serverWorld, final Vector3d start, final Vector3d end, final Cursor cursor) {
+        final double length = cursor.reset(start.x(), start.y(), start.z(), end.x(), end.y(), end.z());
+        if (length == 0) {
+            throw new IllegalStateException("The start and end must be two different vectors");
+        }
 
-        // The ray equation is, vec(u) + t vec(d). From a point (x, y), there is a t
-        // that we need to traverse to get to a boundary. We work that out now...
-        TData tData = this.createInitialTData(direction);
-        Vector3d currentLocation = new Vector3d(this.start.x(), this.start.y(), this.start.z());
         final boolean requiresEntityTracking = this.requiresEntityTracking();
+        final boolean checkFailingEntities = requiresEntityTracking && this.continueWhileEntity != null;
 
         boolean requireAdvancement = true;
         while (requireAdvancement) {
-            final net.minecraft.world.phys.Vec3 vec3dstart = VecHelper.toVanillaVector3d(currentLocation);
             // As this iteration is for the CURRENT block location, we need to check where we are with the filter.
-            if (this.continueWhileLocation != null && !this.continueWhileLocation.test(ServerLocation.of(serverWorld, currentBlock))) {
+            if (this.continueWhileLocation != null
+                    && !this.continueWhileLocation.test(ServerLocation.of(serverWorld, cursor.blockX, cursor.blockY, cursor.blockZ))) {
                 return Optional.empty();
             }
-            final Vector3d nextLocation;
-            final net.minecraft.world.phys.Vec3 vec3dend;
-            if (tData.getTotalTWithNextStep() > length) {
+            if (cursor.totalT + cursor.nextStep > length) {
                 // This is the last step, we break out of the loop after this set of checks.
                 requireAdvancement = false;
-                nextLocation = this.end;
-                vec3dend = VecHelper.toVanillaVector3d(this.end);
+                cursor.exitAt(end.x(), end.y(), end.z());
             } else {
-                nextLocation = currentLocation.add(
-                        direction.x() * tData.getNextStep(),
-                        direction.y() * tData.getNextStep(),
-                        direction.z() * tData.getNextStep()
-                );
-                vec3dend = VecHelper.toVanillaVector3d(nextLocation);
+                cursor.exitAtNextStep();
+            }
+
+            // Entities are gathered once per segment of the ray, rather than queried for every block.
+            if (requiresEntityTracking && cursor.totalT >= cursor.segmentEndT) {
+                this.prefilterEntities(serverWorld, cursor, length);
             }
 
             // Get the selection result.
-            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(serverWorld, vec3dstart, vec3dend);
+            final Optional<RayTraceResult<@NonNull T>> result = this.testSelectLocation(serverWorld, cursor);
             if (result.isPresent() && !this.shouldCheckFailures()) {
                 // either this is a block ray, so no failures need to be checked, else
                 // we return the entity later if there isn't an entity in front of it
@@ -206,24 +234,25 @@
             }
 
             // Ensure that the block can be travelled through.
-            if (!this.shouldAdvanceThroughBlock(serverWorld, vec3dstart, vec3dend)) {
+            if (this.continueWhileBlock != null && !this.continueWhileBlock.test(this.getBlock(serverWorld, cursor))) {
                 return Optional.empty();
             }
 
             // Ensure that the entities in the block can be travelled through.
-            if (requiresEntityTracking && this.continueWhileEntity != null) {
+            if (checkFailingEntities) {
                 final double resultDistance;
                 if (result.isPresent()) {
-                    resultDistance = result.get().hitPosition().distanceSquared(currentLocation);
+                    resultDistance = result.get().hitPosition().distanceSquared(cursor.entryX, cursor.entryY, cursor.entryZ);
                 } else {
                     resultDistance = Double.MAX_VALUE;
                 }
-                final AABB targetAABB = this.getBlockAABB(currentBlock);
-                for (final net.minecraft.world.entity.Entity entity : this.getFailingEntities(serverWorld, targetAABB)) {
-                    final Optional<net.minecraft.world.phys.Vec3> vec3d = entity.getBoundingBox().clip(vec3dstart, vec3dend);
+                for (final net.minecraft.world.entity.Entity entity : cursor.failingCandidates) {
+                    if (!cursor.intersectsBlock(entity)) {
+                        continue;
+                    }
+                    final Optional<net.minecraft.world.phys.Vec3> vec3d = entity.getBoundingBox().clip(cursor.entry(), cursor.exit());
                     if (vec3d.isPresent()) {
-                        final net.minecraft.world.phys.Vec3 hitPosition = vec3d.get();
-                        final double sqdist = hitPosition.distanceToSqr(vec3dstart);
+                        final double sqdist = vec3d.get().distanceToSqr(cursor.entryX, cursor.entryY, cursor.entryZ);
                         if (sqdist < resultDistance) {
                             // We have a failure, so at this point we just bail out and end the trace.
                             return Optional.empty();
@@ -238,15 +267,28 @@
             }
 
             if (requireAdvancement) {
-                currentLocation = nextLocation;
-                currentBlock = this.getNextBlock(currentBlock, tData, steps);
-                tData = this.advance(tData, steps, direction);
+                cursor.advance();
             }
         }
 
         return Optional.empty();
     }
 
+    private void prefilterEntities(final ServerWorld serverWorld, final Cursor cursor, final double length) {
+        final double segmentEndT = Math.min(cursor.totalT + AbstractSpongeRayTrace.ENTITY_SEGMENT_LENGTH, length);
+        final double endX = cursor.startX + cursor.directionX * segmentEndT;
+        final double endY = cursor.startY + cursor.directionY * segmentEndT;
+        final double endZ = cursor.startZ + cursor.directionZ * segmentEndT;
+        // Every block traversed in this segment lies within this box
+        final AABB segment = new AABB(
+                Math.floor(Math.min(cursor.entryX, endX)), Math.floor(Math.min(cursor.entryY, endY)), Math.floor(Math.min(cursor.entryZ, endZ)),
+                Math.floor(Math.max(cursor.entryX, endX)) + 1, Math.floor(Math.max(cursor.entryY, endY)) + 1,
+                Math.floor(Math.max(cursor.entryZ, endZ)) + 1);
+        cursor.segmentEndT = segmentEndT;
+        cursor.selectCandidates = this.selectEntities(serverWorld, segment);
+        cursor.failingCandidates = this.continueWhileEntity == null ? Collections.emptyList() : this.getFailingEntities(serverWorld, segment);
+    }
+
     @Override
     public @NonNull RayTrace<@NonNull T> reset() {
         this.select = this.defaultFilter;
@@ -259,27 +301,6 @@
         return this;
     }
 
-    final Vector3i getNextBlock(final Vector3i current, final TData data, final Vector3i steps) {
-        return current.add(
-                data.nextStepWillAdvanceX() ? steps.x() : 0,
-                data.nextStepWillAdvanceY() ? steps.y() : 0,
-                data.nextStepWillAdvanceZ() ? steps.x() : 0
-        );
-    }
-
-    final Vector3i createSteps(final Vector3d direction) {
-        return new Vector3i(
-                Math.signum(direction.x()),
-                Math.signum(direction.y()),
-                Math.signum(direction.z())
-        );
-    }
-
-    final AABB getBlockAABB(final Vector3i currentBlock) {
-        return new AABB(currentBlock.x(),
-                currentBlock.y(), currentBlock.z(), currentBlock.x() + 1, currentBlock.y() + 1, currentBlock.z() + 1);
-    }
-
     private List<net.minecraft.world.entity.Entity> getFailingEntities(final ServerWorld serverWorld, final AABB targetAABB) {
         return ((Level) serverWorld).getEntities((net.minecraft.world.entity.Entity) null, targetAABB, (Predicate) this.continueWhileEntity.negate());
     }
@@ -292,27 +313,10 @@ List<net.minecraft.world.entity.Entity> selectEntities(final ServerWorld serverW
         return Collections.emptyList();
     }
 
-    abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final ServerWorld serverWorld,
-            final net.minecraft.world.phys.Vec3 location,
-            final net.minecraft.world.phys.Vec3 exitLocation);
-
-    final LocatableBlock getBlock(final ServerWorld world, final net.minecraft.world.phys.Vec3 in, final net.minecraft.world.phys.Vec3 out) {
-        final Vector3i coord = new Vector3i(
-                Math.min(in.x, out.x),
-                Math.min(in.y, out.y),
-                Math.min(in.z, out.z)
-        );
-        return world.locatableBlock(coord);
-    }
-
-    private boolean shouldAdvanceThroughBlock(final ServerWorld serverWorld,
-            final net.minecraft.world.phys.Vec3 location,
-            final net.minecraft.world.phys.Vec3 exitLocation) {
-        if (this.continueWhileBlock == null) {
-            return true;
-        }
+    abstract Optional<RayTraceResult<@NonNull T>> testSelectLocation(final ServerWorld serverWorld, final Cursor cursor);
 
-        return this.continueWhileBlock.test(this.getBlock(serverWorld, location, exitLocation));
+    final LocatableBlock getBlock(final ServerWorld world, final Cursor cursor) {
+        return world.locatableBlock(new Vector3i(cursor.blockX, cursor.blockY, cursor.blockZ));
     }
 
     boolean shouldCheckFailures() {
@@ -338,94 +342,153 @@ final void setupEnd() {
         }
     }
 
-    final Vector3i initialBlock(final Vector3d direction) {
-        return new Vector3i(
-                this.start.x() - (direction.x() < 0 && this.start.x() == 0 ? 1 : 0),
-                this.start.y() - (direction.y() < 0 && this.start.y() == 0 ? 1 : 0),
-                this.start.z() - (direction.z() < 0 && this.start.z() == 0 ? 1 : 0)
-        );
-    }
-
-    final TData createInitialTData(final Vector3d direction) {
-        return new TData(
-                0,
-                this.getT(this.start.x(), direction.x(), this.end.x()),
-                this.getT(this.start.y(), direction.y(), this.end.y()),
-                this.getT(this.start.z(), direction.z(), this.end.z())
-        );
-    }
+    /**
+     * A reusable, mutable cursor over the blocks a ray passes through,
+     * stepping through block boundaries using primitive state only.
+     */
+    static final class Cursor {
+
+        double startX, startY, startZ;
+        double directionX, directionY, directionZ;
+        int stepX, stepY, stepZ;
+        // The t required to cross a whole block along each axis
+        double deltaX, deltaY, deltaZ;
+        // The t remaining until the next boundary along each axis
+        double toX, toY, toZ;
+        double nextStep;
+        double totalT;
+
+        int blockX, blockY, blockZ;
+        double entryX, entryY, entryZ;
+        double exitX, exitY, exitZ;
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        private net.minecraft.world.phys.@Nullable Vec3 entry;
+        private net.minecraft.world.phys.@Nullable Vec3 exit;
+
+        double segmentEndT;
+        List<net.minecraft.world.entity.Entity> selectCandidates = Collections.emptyList();
+        List<net.minecraft.world.entity.Entity> failingCandidates = Collections.emptyList();
+
+        double reset(final double startX, final double startY, final double startZ, final double endX, final double endY, final double endZ) {
+            final double x = endX - startX;
+            final double y = endY - startY;
+            final double z = endZ - startZ;
+            final double length = Math.sqrt(x * x + y * y + z * z);
+            if (length == 0) {
+                return 0;
+            }
+            this.startX = startX;
+            this.startY = startY;
+            this.startZ = startZ;
+            this.directionX = x / length;
+            this.directionY = y / length;
+            this.directionZ = z / length;
+            this.stepX = (int) Math.signum(this.directionX);
+            this.stepY = (int) Math.signum(this.directionY);
+            this.stepZ = (int) Math.signum(this.directionZ);
+            this.deltaX = this.stepX == 0 ? Double.POSITIVE_INFINITY : this.stepX / this.directionX;
+            this.deltaY = this.stepY == 0 ? Double.POSITIVE_INFINITY : this.stepY / this.directionY;
+            this.deltaZ = this.stepZ == 0 ? Double.POSITIVE_INFINITY : this.stepZ / this.directionZ;
+            this.blockX = Cursor.initialBlock(startX, this.stepX);
+            this.blockY = Cursor.initialBlock(startY, this.stepY);
+            this.blockZ = Cursor.initialBlock(startZ, this.stepZ);
+            this.toX = Cursor.initialT(startX, this.blockX, this.stepX, this.deltaX);
+            this.toY = Cursor.initialT(startY, this.blockY, this.stepY, this.deltaY);
+            this.toZ = Cursor.initialT(startZ, this.blockZ, this.stepZ, this.deltaZ);
+            this.nextStep = Math.min(this.toX, Math.min(this.toY, this.toZ));
+            this.totalT = 0;
+            this.segmentEndT = 0;
+            this.selectCandidates = Collections.emptyList();
+            this.failingCandidates = Collections.emptyList();
+            this.enterAt(startX, startY, startZ);
+            return length;
+        }
 
-    final TData advance(final TData data, final Vector3i steps, final Vector3d direction) {
-        final double nextStep = data.getNextStep();
-        return new TData(
-                data.getTotalTWithNextStep(),
-                data.nextStepWillAdvanceX() ? steps.x() / direction.x() : data.gettToX() - nextStep,
-                data.nextStepWillAdvanceY() ? steps.y() / direction.y() : data.gettToY() - nextStep,
-                data.nextStepWillAdvanceZ() ? steps.z() / direction.z() : data.gettToZ() - nextStep
-        );
-    }
+        private static int initialBlock(final double start, final int step) {
+            final double floor = Math.floor(start);
+            // Starting on a boundary whilst travelling backwards means we are in the block behind it
+            return (int) floor - (step < 0 && floor == start ? 1 : 0);
+        }
 
-    private double getT(final double start, final double direction, final double end) {
-        if (direction > 0) {
-            return (Math.min(end, Math.ceil(start)) - start) / direction;
-        } else if (direction < 0) {
-            return (Math.max(end, Math.floor(start)) - start) / direction;
-        } else {
+        private static double initialT(final double start, final int block, final int step, final double delta) {
+            if (step > 0) {
+                return (block + 1 - start) * delta;
+            } else if (step < 0) {
+                return (start - block) * delta;
+            }
             // Infinity - indicates we never reach a boundary.
             return Double.POSITIVE_INFINITY;
         }
-    }
-
-    static final class TData {
-
-        private final double totalT;
-        private final double tToX;
-        private final double tToY;
-        private final double tToZ;
-        private final double nextStep;
-
-        TData(final double totalT, final double tToX, final double tToY, final double tToZ) {
-            this.totalT = totalT;
-            this.tToX = tToX;
-            this.tToY = tToY;
-            this.tToZ = tToZ;
-            this.nextStep = Math.min(tToX, Math.min(tToY, tToZ));
-        }
 
-        public double getTotalT() {
-            return this.totalT;
+        void exitAtNextStep() {
+            this.exitAt(
+                    this.entryX + this.directionX * this.nextStep,
+                    this.entryY + this.directionY * this.nextStep,
+                    this.entryZ + this.directionZ * this.nextStep);
         }
 
-        public double gettToX() {
-            return this.tToX;
+        void exitAt(final double x, final double y, final double z) {
+            this.exitX = x;
+            this.exitY = y;
+            this.exitZ = z;
+            this.exit = null;
         }
 
-        public double gettToY() {
-            return this.tToY;
+        private void enterAt(final double x, final double y, final double z) {
+            this.entryX = x;
+            this.entryY = y;
+            this.entryZ = z;
+            this.entry = null;
+            this.pos.set(this.blockX, this.blockY, this.blockZ);
         }
 
-        public double gettToZ() {
-            return this.tToZ;
+        void advance() {
+            final double step = this.nextStep;
+            this.totalT += step;
+            if (this.toX <= step) {
+                this.blockX += this.stepX;
+                this.toX = this.deltaX;
+            } else {
+                this.toX -= step;
+            }
+            if (this.toY <= step) {
+                this.blockY += this.stepY;
+                this.toY = this.deltaY;
+            } else {
+                this.toY -= step;
+            }
+            if (this.toZ <= step) {
+                this.blockZ += this.stepZ;
+                this.toZ = this.deltaZ;
+            } else {
+                this.toZ -= step;
+            }
+            this.nextStep = Math.min(this.toX, Math.min(this.toY, this.toZ));
+            this.enterAt(this.exitX, this.exitY, this.exitZ);
         }
 
-        public boolean nextStepWillAdvanceX() {
-            return this.tToX <= this.nextStep;
+        boolean intersectsBlock(final net.minecraft.world.entity.Entity entity) {
+            return entity.getBoundingBox().intersects(this.blockX, this.blockY, this.blockZ, this.blockX + 1, this.blockY + 1, this.blockZ + 1);
         }
 
-        public boolean nextStepWillAdvanceY() {
-            return this.tToY <= this.nextStep;
-        }
+        // Only created when an entity actually needs to be clipped against the ray
 
-        public boolean nextStepWillAdvanceZ() {
-            return this.tToZ <= this.nextStep;
+        net.minecraft.world.phys.Vec3 entry() {
+            if (this.entry == null) {
+                this.entry = new net.minecraft.world.phys.Vec3(this.entryX, this.entryY, this.entryZ);
+            }
+            return this.entry;
         }
 
-        public double getNextStep() {
-            return this.nextStep;
+        net.minecraft.world.phys.Vec3 exit() {
+            if (this.exit == null) {
+                this.exit = new net.minecraft.world.phys.Vec3(this.exitX, this.exitY, this.exitZ);
+            }
+            return this.exit;
         }
 
-        public double getTotalTWithNextStep() {
-            return this.nextStep + this.totalT;
+        Vector3d entryPosition() {
+            return new Vector3d(this.entryX, this.entryY, this.entryZ);
         }
     }
 
@@ -24,14 +24,13 @@
  */
 package org.spongepowered.common.util.raytrace;
 
-import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.level.Level;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.util.blockray.RayTraceResult;
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.server.ServerWorld;
-import org.spongepowered.common.util.VecHelper;
 
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -48,13 +47,18 @@ public final class SpongeBlockRayTrace extends AbstractSpongeRayTrace<@NonNull L
     }
 
     @Override
-    final Optional<RayTraceResult<@NonNull LocatableBlock>> testSelectLocation(final ServerWorld serverWorld,
-            final Vec3 location,
-            final Vec3 exitLocation) {
+    final Optional<RayTraceResult<@NonNull LocatableBlock>> testSelectLocation(final ServerWorld serverWorld, final Cursor cursor) {
+        if (this.select == SpongeBlockRayTrace.DEFAULT_FILTER) {
+            // Test the vanilla state directly, so we only create the block when we have a hit
+            if (((Level) serverWorld).getBlockState(cursor.pos).isAir()) {
+                return Optional.empty();
+            }
+            return Optional.of(new SpongeRayTraceResult<>(this.getBlock(serverWorld, cursor), cursor.entryPosition()));
+        }
 
-        final LocatableBlock initialBlock = this.getBlock(serverWorld, location, exitLocation);
+        final LocatableBlock initialBlock = this.getBlock(serverWorld, cursor);
         if (this.select.test(initialBlock)) {
-            return Optional.of(new SpongeRayTraceResult<>(initialBlock, VecHelper.toVector3d(location)));
+            return Optional.of(new SpongeRayTraceResult<>(initialBlock, cursor.entryPosition()));
         }
         return Optional.empty();
     }
@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.level.chunk.storage;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks world directories that are overlays over a read-only template world.
+ * Region storages created below an overlay write into the overlay and fall
+ * back to the matching folder of the template for chunks they do not have.
+ */
+public final class SpongeRegionOverlays {
+
+    private static final Map<Path, Path> OVERLAYS = new ConcurrentHashMap<>();
+
+    public static void register(final Path overlay, final Path template) {
+        SpongeRegionOverlays.OVERLAYS.put(SpongeRegionOverlays.normalize(overlay), SpongeRegionOverlays.normalize(template));
+    }
+
+    public static void unregister(final Path overlay) {
+        SpongeRegionOverlays.OVERLAYS.remove(SpongeRegionOverlays.normalize(overlay));
+    }
+
+    /**
+     * Gets whether any overlay currently reads from the given template world.
+     *
+     * @param template The directory of the template world
+     * @return True if an overlay uses the template
+     */
+    public static boolean isTemplate(final Path template) {
+        return SpongeRegionOverlays.OVERLAYS.containsValue(SpongeRegionOverlays.normalize(template));
+    }
+
+    /**
+     * Gets the template folder backing the given region folder.
+     *
+     * @param folder The region folder of a storage
+     * @return The template folder, or null if the folder is not part of an overlay
+     */
+    public static @Nullable Path templateFolder(final Path folder) {
+        if (SpongeRegionOverlays.OVERLAYS.isEmpty()) {
+            return null;
+        }
+        final Path normalized = SpongeRegionOverlays.normalize(folder);
+        for (final Map.Entry<Path, Path> entry : SpongeRegionOverlays.OVERLAYS.entrySet()) {
+            if (normalized.startsWith(entry.getKey())) {
+                return entry.getValue().resolve(entry.getKey().relativize(normalized));
+            }
+        }
+        return null;
+    }
+
+    private static Path normalize(final Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    private SpongeRegionOverlays() {
+    }
+}
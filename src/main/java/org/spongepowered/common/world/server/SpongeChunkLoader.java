@@ -0,0 +1,274 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import net.minecraft.server.level.ChunkResult;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.chunk.WorldChunk;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loads chunks of a single level on behalf of plugins without blocking the
+ * server thread.
+ *
+ * <p>Requests are queued per plugin and dispatched to the vanilla chunk task
+ * scheduler from the server thread, highest priority first. Each plugin may
+ * only have a limited number of loads in flight at once, so one plugin warming
+ * a large region cannot starve the others. Loaded chunks are held by a timed
+ * ticket for a short while, giving callers time to use them.</p>
+ */
+public final class SpongeChunkLoader {
+
+    // How long, in ticks, a chunk loaded through this loader is kept loaded
+    private static final int TICKET_LIFETIME = 300;
+    private static final TicketType<ChunkPos> ASYNC_LOAD = TicketType.create("sponge_async_load",
+        Comparator.comparingLong(ChunkPos::toLong), SpongeChunkLoader.TICKET_LIFETIME);
+
+    // Higher priorities first, then in order of submission
+    private static final Comparator<Request> ORDER = Comparator.<Request>comparingInt(request -> request.priority).reversed()
+        .thenComparingLong(request -> request.sequence);
+
+    private final ServerLevel level;
+    private final Map<PluginContainer, PluginQueue> queues = new HashMap<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private long sequence;
+    private boolean closed;
+
+    public SpongeChunkLoader(final ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Requests the chunk at the given chunk coordinates to be loaded,
+     * generating it if needed.
+     *
+     * <p>Cancelling the returned future withdraws the request, or releases
+     * the chunk if the load was already dispatched.</p>
+     *
+     * @param plugin The plugin requesting the load
+     * @param cx The chunk x coordinate
+     * @param cz The chunk z coordinate
+     * @param priority The priority, higher values are loaded first
+     * @return The future completed with the loaded chunk
+     */
+    public CompletableFuture<WorldChunk> loadChunk(final PluginContainer plugin, final int cx, final int cz, final int priority) {
+        Objects.requireNonNull(plugin, "plugin");
+        final Request request;
+        synchronized (this) {
+            if (this.closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("The world has been unloaded."));
+            }
+            request = new Request(plugin, new ChunkPos(cx, cz), priority, this.sequence++);
+            this.queues.computeIfAbsent(plugin, k -> new PluginQueue()).pending.add(request);
+        }
+        request.result.whenComplete(($, $$) -> {
+            if (request.result.isCancelled()) {
+                this.cancel(request);
+            }
+        });
+        this.scheduleDrain();
+        return request.result;
+    }
+
+    /**
+     * Requests all the given chunks to be loaded, see
+     * {@link #loadChunk(PluginContainer, int, int, int)}.
+     *
+     * <p>Cancelling the returned future cancels every request of the
+     * batch.</p>
+     *
+     * @param plugin The plugin requesting the load
+     * @param chunkPositions The chunk positions, the y coordinate is ignored
+     * @param priority The priority, higher values are loaded first
+     * @return The future completed with the loaded chunks, in request order
+     */
+    public CompletableFuture<List<WorldChunk>> loadChunks(final PluginContainer plugin, final Collection<Vector3i> chunkPositions,
+            final int priority) {
+        final List<CompletableFuture<WorldChunk>> requests = new ArrayList<>(chunkPositions.size());
+        for (final Vector3i chunkPosition : chunkPositions) {
+            requests.add(this.loadChunk(plugin, chunkPosition.x(), chunkPosition.z(), priority));
+        }
+        final CompletableFuture<List<WorldChunk>> batch = CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+            .thenApply($ -> requests.stream().map(CompletableFuture::join).toList());
+        batch.whenComplete(($, $$) -> {
+            if (batch.isCancelled()) {
+                requests.forEach(request -> request.cancel(false));
+            }
+        });
+        return batch;
+    }
+
+    /**
+     * Cancels every pending request, called when the level is unloaded.
+     */
+    public void close() {
+        final List<Request> pending = new ArrayList<>();
+        synchronized (this) {
+            this.closed = true;
+            this.queues.values().forEach(queue -> pending.addAll(queue.pending));
+            this.queues.clear();
+        }
+        pending.forEach(request -> request.result.cancel(false));
+    }
+
+    private void scheduleDrain() {
+        // Always queue the drain, even on the server thread, so completions of
+        // already loaded chunks don't recurse back into it
+        if (this.drainScheduled.compareAndSet(false, true)) {
+            this.level.getServer().tell(this.level.getServer().wrapRunnable(this::drain));
+        }
+    }
+
+    private void drain() {
+        this.drainScheduled.set(false);
+        final int limit = SpongeConfigs.getCommonSnapshot().asyncChunkLoadsPerPlugin();
+        while (true) {
+            final @Nullable Request request;
+            synchronized (this) {
+                request = this.poll(limit);
+                if (request == null) {
+                    return;
+                }
+                request.dispatched = true;
+            }
+            this.dispatch(request);
+        }
+    }
+
+    private @Nullable Request poll(final int limit) {
+        @Nullable PluginQueue best = null;
+        @Nullable Request bestRequest = null;
+        for (final PluginQueue queue : this.queues.values()) {
+            if (queue.inFlight >= limit) {
+                continue;
+            }
+            @Nullable Request head = queue.pending.peek();
+            while (head != null && head.result.isDone()) {
+                queue.pending.poll();
+                head = queue.pending.peek();
+            }
+            if (head != null && (bestRequest == null || SpongeChunkLoader.ORDER.compare(head, bestRequest) < 0)) {
+                best = queue;
+                bestRequest = head;
+            }
+        }
+        if (best == null) {
+            return null;
+        }
+        best.inFlight++;
+        return best.pending.poll();
+    }
+
+    private void dispatch(final Request request) {
+        final ServerChunkCache chunkSource = this.level.getChunkSource();
+        chunkSource.addRegionTicket(SpongeChunkLoader.ASYNC_LOAD, request.pos, 0, request.pos);
+        chunkSource.getChunkFuture(request.pos.x, request.pos.z, ChunkStatus.FULL, true).whenComplete((result, error) -> {
+            this.release(request);
+            if (error != null) {
+                request.result.completeExceptionally(error);
+                return;
+            }
+            final @Nullable ChunkAccess chunk = result.orElse(null);
+            if (chunk instanceof ImposterProtoChunk imposter) {
+                request.result.complete((WorldChunk) imposter.getWrapped());
+            } else if (chunk instanceof WorldChunk worldChunk) {
+                request.result.complete(worldChunk);
+            } else {
+                request.result.completeExceptionally(new IllegalStateException("Unable to load chunk " + request.pos + ": "
+                    + SpongeChunkLoader.describe(result)));
+            }
+        });
+    }
+
+    private static String describe(final ChunkResult<ChunkAccess> result) {
+        final @Nullable String error = result.getError();
+        return error == null ? "not a full chunk" : error;
+    }
+
+    private void release(final Request request) {
+        synchronized (this) {
+            final @Nullable PluginQueue queue = this.queues.get(request.plugin);
+            if (queue != null && --queue.inFlight == 0 && queue.pending.isEmpty()) {
+                this.queues.remove(request.plugin);
+            }
+        }
+        this.scheduleDrain();
+    }
+
+    private void cancel(final Request request) {
+        final boolean wasPending;
+        synchronized (this) {
+            final @Nullable PluginQueue queue = this.queues.get(request.plugin);
+            wasPending = queue != null && queue.pending.remove(request);
+        }
+        if (!wasPending && request.dispatched) {
+            this.level.getServer().execute(() -> this.level.getChunkSource()
+                .removeRegionTicket(SpongeChunkLoader.ASYNC_LOAD, request.pos, 0, request.pos));
+        }
+    }
+
+    private static final class PluginQueue {
+
+        final PriorityQueue<Request> pending = new PriorityQueue<>(SpongeChunkLoader.ORDER);
+        int inFlight;
+    }
+
+    private static final class Request {
+
+        final PluginContainer plugin;
+        final ChunkPos pos;
+        final int priority;
+        final long sequence;
+        final CompletableFuture<WorldChunk> result = new CompletableFuture<>();
+        volatile boolean dispatched;
+
+        Request(final PluginContainer plugin, final ChunkPos pos, final int priority, final long sequence) {
+            this.plugin = plugin;
+            this.pos = pos;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+}
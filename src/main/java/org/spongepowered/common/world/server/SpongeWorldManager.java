@@ -37,6 +37,7 @@
 import net.minecraft.data.worldgen.features.MiscOverworldFeatures;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ServerChunkCache;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.TicketType;
@@ -75,8 +76,6 @@
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.world.LoadWorldEvent;
 import org.spongepowered.api.event.world.UnloadWorldEvent;
-import org.spongepowered.api.scheduler.Task;
-import org.spongepowered.api.util.file.DeleteFileVisitor;
 import org.spongepowered.api.world.DefaultWorldKeys;
 import org.spongepowered.api.world.WorldType;
 import org.spongepowered.api.world.server.ServerWorld;
@@ -86,7 +85,10 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
+import org.spongepowered.common.accessor.server.level.ChunkMapAccessor;
+import org.spongepowered.common.accessor.server.level.ServerChunkCacheAccessor;
 import org.spongepowered.common.accessor.world.level.storage.LevelStorageSource_LevelStorageAccessAccessor;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
 import org.spongepowered.common.bridge.world.level.dimension.LevelStemBridge;
@@ -102,37 +104,45 @@
 import org.spongepowered.common.user.SpongeUserManager;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.FutureUtil;
+import org.spongepowered.common.world.level.chunk.storage.SpongeRegionOverlays;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.FileVisitResult;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public abstract class SpongeWorldManager implements WorldManager {
 
     private final MinecraftServer server;
     private final Path defaultWorldDirectory, customWorldsDirectory;
     private final Map<net.minecraft.resources.ResourceKey<Level>, ServerLevel> worlds;
+    private final Set<net.minecraft.resources.ResourceKey<Level>> instances = ConcurrentHashMap.newKeySet();
 
     private static final TicketType<ResourceLocation> SPAWN_CHUNKS = TicketType.create("spawn_chunks", ResourceLocation::compareTo);
+    private static final Set<String> REGION_DIRECTORIES = Set.of("region", "entities", "poi");
+    // Marks the directory of an instance so it can be recognised when the server did not get to dispose of it
+    private static final String INSTANCE_MARKER = "sponge_instance";
 
     public SpongeWorldManager(final MinecraftServer server) {
         this.server = server;
@@ -258,6 +268,10 @@ public CompletableFuture<ServerWorld> loadWorld(final WorldTemplate template) {
             return CompletableFuture.completedFuture((ServerWorld) serverWorld);
         }
 
+        if (SpongeRegionOverlays.isTemplate(this.getDirectory(key))) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' cannot be loaded while instances of it are loaded!", key)));
+        }
+
         this.saveTemplate(template);
 
         return this.loadWorld0(registryKey, ((SpongeWorldTemplate) template).levelStem());
@@ -275,12 +289,74 @@ public CompletableFuture<ServerWorld> loadWorld(final ResourceKey key) {
             return CompletableFuture.completedFuture((ServerWorld) world);
         }
 
+        if (SpongeRegionOverlays.isTemplate(this.getDirectory(key))) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' cannot be loaded while instances of it are loaded!", key)));
+        }
+
+        return this.findLevelStem(key).thenCompose(levelStem -> this.loadWorld0(registryKey, levelStem));
+    }
+
+    /**
+     * Loads a disposable instance of a world. The instance reads the region
+     * data of the template world in place and writes the chunks it changes
+     * into its own directory, which is deleted again when the instance is
+     * unloaded or the server stops. Only the small files of the template, such
+     * as its level data, are copied. The template cannot be loaded, moved or
+     * deleted while instances use it.
+     *
+     * @param templateKey The key of the world to instance
+     * @param instanceKey The key of the instance
+     * @return A future completed with the loaded instance
+     */
+    public CompletableFuture<ServerWorld> loadInstance(final ResourceKey templateKey, final ResourceKey instanceKey) {
+        final net.minecraft.resources.ResourceKey<Level> templateRegistryKey = SpongeWorldManager.createRegistryKey(Objects.requireNonNull(templateKey, "templateKey"));
+        final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(Objects.requireNonNull(instanceKey, "instanceKey"));
+        if (Level.OVERWORLD.equals(templateRegistryKey) || Level.OVERWORLD.equals(registryKey)) {
+            return FutureUtil.completedWithException(new IllegalArgumentException("The default world cannot be instanced!"));
+        }
+        if (this.worlds.containsKey(templateRegistryKey)) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' cannot be instanced while it is loaded!", templateKey)));
+        }
+        if (!this.worldExists(templateKey)) {
+            return FutureUtil.completedWithException(new IOException(String.format("World '%s' does not exist!", templateKey)));
+        }
+        if (this.worlds.containsKey(registryKey) || this.worldExists(instanceKey)) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' already exists!", instanceKey)));
+        }
+
+        final Path templateDirectory = this.getDirectory(templateKey);
+        final Path instanceDirectory = this.getDirectory(instanceKey);
+        SpongeRegionOverlays.register(instanceDirectory, templateDirectory);
+        this.instances.add(registryKey);
+        try {
+            // Marked before anything is copied so even a partial instance is swept on the next start
+            Files.createDirectories(instanceDirectory);
+            Files.createFile(instanceDirectory.resolve(SpongeWorldManager.INSTANCE_MARKER));
+        } catch (final IOException e) {
+            this.disposeInstance(registryKey);
+            return FutureUtil.completedWithException(e);
+        }
+        return WorldDirectoryOperations.copy(instanceKey.toString(), templateDirectory, instanceDirectory,
+                // Region data is read from the template, everything else belongs to the instance
+                dir -> dir.getParent().equals(templateDirectory) && SpongeWorldManager.REGION_DIRECTORIES.contains(dir.getFileName().toString()),
+                file -> file.getFileName().toString().equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)
+                        || file.getFileName().toString().equals(Constants.World.LEVEL_DAT_OLD))
+                .thenCombine(this.findLevelStem(templateKey), (v, levelStem) -> levelStem)
+                .thenComposeAsync(levelStem -> this.loadWorld0(registryKey, levelStem), this.server)
+                .whenComplete((world, throwable) -> {
+                    if (throwable != null) {
+                        this.disposeInstance(registryKey);
+                    }
+                });
+    }
+
+    private CompletableFuture<LevelStem> findLevelStem(final ResourceKey key) {
         // First find a loaded level-stem / To load based on a datapack load using the WorldTemplate instead
 
         final net.minecraft.resources.ResourceKey<LevelStem> rKey = net.minecraft.resources.ResourceKey.create(Registries.LEVEL_STEM, (ResourceLocation) (Object) key);
         final LevelStem levelStem = SpongeCommon.vanillaRegistry(Registries.LEVEL_STEM).get(rKey);
         if (levelStem != null) {
-            return this.loadWorld0(registryKey, levelStem);
+            return CompletableFuture.completedFuture(levelStem);
         }
 
         // Then attempt to load from data pack
@@ -289,10 +365,73 @@ public CompletableFuture<ServerWorld> loadWorld(final ResourceKey key) {
             if (template.isEmpty()) {
                 return FutureUtil.completedWithException(new IOException(String.format("Failed to load a template for '%s'!", key)));
             }
-            return this.loadWorld0(registryKey, ((SpongeWorldTemplate) template.get()).levelStem());
+            return CompletableFuture.completedFuture(((SpongeWorldTemplate) template.get()).levelStem());
+        });
+    }
+
+    private CompletableFuture<Void> disposeInstance(final net.minecraft.resources.ResourceKey<Level> registryKey) {
+        if (!this.instances.remove(registryKey)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final ResourceKey worldKey = (ResourceKey) (Object) registryKey.location();
+        final Path directory = this.getDirectory(worldKey);
+        SpongeRegionOverlays.unregister(directory);
+        return this.deleteInstanceFiles(worldKey, directory);
+    }
+
+    private CompletableFuture<Void> deleteInstanceFiles(final ResourceKey worldKey, final Path directory) {
+        final Path configFile = this.getConfigFile(worldKey);
+        return WorldDirectoryOperations.delete(worldKey.toString(), directory).thenRun(() -> {
+            try {
+                Files.deleteIfExists(configFile);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).exceptionally(throwable -> {
+            SpongeCommon.logger().error("Failed to delete instance world '{}'", worldKey, WorldDirectoryOperations.cause(throwable));
+            return null;
         });
     }
 
+    /**
+     * Deletes every instance that is still loaded. Called once the server has
+     * stopped and closed its worlds, instances do not outlive the server.
+     */
+    public void disposeInstances() {
+        CompletableFuture.allOf(this.instances.stream()
+                .map(this::disposeInstance)
+                .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    /**
+     * Deletes the directories of instances that were not disposed of, for
+     * example because the server did not shut down cleanly.
+     */
+    private void sweepOrphanedInstances() {
+        if (Files.notExists(this.customWorldsDirectory)) {
+            return;
+        }
+        final List<CompletableFuture<Void>> deletions = new ArrayList<>();
+        try (final Stream<Path> namespacedDirectories = Files.list(this.customWorldsDirectory)) {
+            for (final Path namespacedDirectory : namespacedDirectories.filter(Files::isDirectory).toList()) {
+                try (final Stream<Path> valueDirectories = Files.list(namespacedDirectory)) {
+                    for (final Path valueDirectory : valueDirectories.toList()) {
+                        if (Files.notExists(valueDirectory.resolve(SpongeWorldManager.INSTANCE_MARKER))) {
+                            continue;
+                        }
+                        final ResourceKey worldKey = ResourceKey.of(namespacedDirectory.getFileName().toString(), valueDirectory.getFileName().toString());
+                        SpongeCommon.logger().warn("Deleting instance world '{}' left over from a previous run", worldKey);
+                        deletions.add(this.deleteInstanceFiles(worldKey, valueDirectory));
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            SpongeCommon.logger().error("Failed to look for left over instance worlds", e);
+        }
+        CompletableFuture.allOf(deletions.toArray(new CompletableFuture[0])).join();
+    }
+
     private CompletableFuture<ServerWorld> loadWorld0(final net.minecraft.resources.ResourceKey<Level> registryKey, final LevelStem levelStem) {
         final ResourceKey worldKey = (ResourceKey) (Object) registryKey.location();
         final DimensionType dimensionType = levelStem.type().value();
@@ -304,6 +443,10 @@ private CompletableFuture<ServerWorld> loadWorld0(final net.minecraft.resources.
         final ServerLevel world;
         try {
             world = this.createNonDefaultLevel(registryKey, levelStem, worldKey, worldTypeKey.orElse(null), chunkStatusListener);
+            if (this.instances.contains(registryKey)) {
+                // The level data was copied from the template, instances need an identity of their own
+                ((PrimaryLevelDataBridge) world.getLevelData()).bridge$setUniqueId(UUID.randomUUID());
+            }
         } catch (final IOException e) {
             return FutureUtil.completedWithException(new RuntimeException(String.format("Failed to create level data for world '%s'!", worldKey), e));
         }
@@ -470,6 +613,11 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        if (this.instances.contains(registryKey)) {
+            // An instance only holds the chunks it changed, a copy of it would be missing the rest
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' is an instance and cannot be copied!", key)));
+        }
+
         if (!this.worldExists(key)) {
             return CompletableFuture.completedFuture(false);
         }
@@ -479,10 +627,10 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
         }
 
         final ServerLevel loadedWorld = this.worlds.get(registryKey);
-        boolean disableLevelSaving = false;
+        final boolean disableLevelSaving = loadedWorld != null && loadedWorld.noSave;
 
         if (loadedWorld != null) {
-            disableLevelSaving = loadedWorld.noSave;
+            // Flush so no chunk IO is left pending when the copy starts
             loadedWorld.save(null, true, loadedWorld.noSave);
             loadedWorld.noSave = true;
         }
@@ -491,75 +639,57 @@ public CompletableFuture<Boolean> copyWorld(final ResourceKey key, final Resourc
 
         final Path originalDirectory = this.getDirectory(key);
         final Path copyDirectory = this.getDirectory(copyKey);
+        final Path configFile = this.getConfigFile(key);
+        final Path copyConfigFile = this.getConfigFile(copyKey);
 
-        try {
-            Files.walkFileTree(originalDirectory, new SimpleFileVisitor<Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+        final CompletableFuture<Void> copy = WorldDirectoryOperations.copy(copyKey.toString(), originalDirectory, copyDirectory,
+                dir -> {
+                    final String directoryName = dir.getFileName().toString();
                     // Silly recursion if the default world is being copied
-                    if (dir.getFileName().toString().equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
                     // Silly copying of vanilla sub worlds if the default world is being copied
-                    if (isDefaultWorld && SpongeWorldManager.this.isVanillaSubWorld(dir.getFileName().toString())) {
-                        return FileVisitResult.SKIP_SUBTREE;
-                    }
-
-                    final Path relativize = originalDirectory.relativize(dir);
-                    final Path directory = copyDirectory.resolve(relativize);
-                    Files.createDirectories(directory);
-
-                    return FileVisitResult.CONTINUE;
-                }
-
-                @Override
-                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                    return directoryName.equals(Constants.Sponge.World.DIMENSIONS_DIRECTORY)
+                            || (isDefaultWorld && this.isVanillaSubWorld(directoryName));
+                },
+                file -> {
                     final String fileName = file.getFileName().toString();
                     // Do not copy backups (not relevant anymore)
-                    if (fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
-                    }
-                    if (fileName.equals(Constants.World.LEVEL_DAT_OLD)) {
-                        return FileVisitResult.CONTINUE;
+                    return fileName.equals(Constants.Sponge.World.LEVEL_SPONGE_DAT_OLD) || fileName.equals(Constants.World.LEVEL_DAT_OLD);
+                })
+                .thenRun(() -> {
+                    try {
+                        Files.createDirectories(copyConfigFile.getParent());
+                        Files.copy(configFile, copyConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
                     }
-                    Files.copy(file, copyDirectory.resolve(originalDirectory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES,
-                            StandardCopyOption.REPLACE_EXISTING);
+                });
 
-                    return FileVisitResult.CONTINUE;
-                }
-            });
-        } catch (final IOException e) {
-            // Bail the whole deal if we hit IO problems!
+        if (loadedWorld != null) {
+            // A loaded world keeps ticking, and unloading chunks would write to the region files while
+            // they are copied. Hold the server thread until the copy is done, as the copy used to.
             try {
-                Files.walkFileTree(copyDirectory, DeleteFileVisitor.INSTANCE);
-            } catch (final IOException ignore) {
+                copy.join();
+            } catch (final CompletionException ignored) {
+                // Handled below
             }
-
-            return FutureUtil.completedWithException(e);
-        }
-
-        if (loadedWorld != null) {
             loadedWorld.noSave = disableLevelSaving;
         }
 
-        final Path configFile = this.getConfigFile(key);
-        final Path copyConfigFile = this.getConfigFile(copyKey);
-
-        try {
-            Files.createDirectories(copyConfigFile.getParent());
-            Files.copy(configFile, copyConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        try {
-            this.server().dataPackManager().copy(this.findPack(key), key, copyKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+        return copy.handleAsync((v, throwable) -> {
+                    if (throwable != null) {
+                        // Bail the whole deal if we hit IO problems!
+                        WorldDirectoryOperations.delete(copyKey.toString(), copyDirectory);
+                        return FutureUtil.<Boolean>completedWithException(WorldDirectoryOperations.cause(throwable));
+                    }
 
-        return CompletableFuture.completedFuture(true);
+                    try {
+                        this.server().dataPackManager().copy(this.findPack(key), key, copyKey);
+                    } catch (final IOException e) {
+                        return FutureUtil.<Boolean>completedWithException(e);
+                    }
+                    return CompletableFuture.completedFuture(true);
+                }, this.server)
+                .thenCompose(Function.identity());
     }
 
     @Override
@@ -570,6 +700,14 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
             return CompletableFuture.completedFuture(false);
         }
 
+        if (this.instances.contains(registryKey)) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' is an instance and cannot be moved!", key)));
+        }
+
+        if (SpongeRegionOverlays.isTemplate(this.getDirectory(key))) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' cannot be moved while instances of it are loaded!", key)));
+        }
+
         if (!this.worldExists(key)) {
             return CompletableFuture.completedFuture(false);
         }
@@ -589,31 +727,31 @@ public CompletableFuture<Boolean> moveWorld(final ResourceKey key, final Resourc
 
         final Path originalDirectory = this.getDirectory(key);
         final Path movedDirectory = this.getDirectory(movedKey);
-
-        try {
-            Files.createDirectories(movedDirectory);
-            Files.move(originalDirectory, movedDirectory, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
         final Path configFile = this.getConfigFile(key);
         final Path movedConfigFile = this.getConfigFile(movedKey);
 
-        try {
-            Files.createDirectories(movedConfigFile.getParent());
-            Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
-
-        try {
-            this.server().dataPackManager().move(this.findPack(key), key, movedKey);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+        return WorldDirectoryOperations.move(movedKey.toString(), originalDirectory, movedDirectory)
+                .thenRun(() -> {
+                    try {
+                        Files.createDirectories(movedConfigFile.getParent());
+                        Files.move(configFile, movedConfigFile, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .handleAsync((v, throwable) -> {
+                    if (throwable != null) {
+                        return FutureUtil.<Boolean>completedWithException(WorldDirectoryOperations.cause(throwable));
+                    }
 
-        return CompletableFuture.completedFuture(true);
+                    try {
+                        this.server().dataPackManager().move(this.findPack(key), key, movedKey);
+                    } catch (final IOException e) {
+                        return FutureUtil.<Boolean>completedWithException(e);
+                    }
+                    return CompletableFuture.completedFuture(true);
+                }, this.server)
+                .thenCompose(Function.identity());
     }
 
     @Override
@@ -624,6 +762,15 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
             return CompletableFuture.completedFuture(false);
         }
 
+        if (this.instances.contains(registryKey)) {
+            // Unloading an instance already deletes it
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' is an instance, unload it to delete it!", key)));
+        }
+
+        if (SpongeRegionOverlays.isTemplate(this.getDirectory(key))) {
+            return FutureUtil.completedWithException(new IllegalStateException(String.format("World '%s' cannot be deleted while instances of it are loaded!", key)));
+        }
+
         if (!this.worldExists(key)) {
             return CompletableFuture.completedFuture(false);
         }
@@ -641,28 +788,29 @@ public CompletableFuture<Boolean> deleteWorld(final ResourceKey key) {
         }
 
         final Path directory = this.getDirectory(key);
-        if (Files.exists(directory)) {
-            try {
-                Files.walkFileTree(directory, DeleteFileVisitor.INSTANCE);
-            } catch (final IOException e) {
-                return FutureUtil.completedWithException(e);
-            }
-        }
-
         final Path configFile = this.getConfigFile(key);
-        try {
-            Files.deleteIfExists(configFile);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
 
-        try {
-            this.server().dataPackManager().delete(this.findPack(key), key);
-        } catch (final IOException e) {
-            return FutureUtil.completedWithException(e);
-        }
+        return WorldDirectoryOperations.delete(key.toString(), directory)
+                .thenRun(() -> {
+                    try {
+                        Files.deleteIfExists(configFile);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .handleAsync((v, throwable) -> {
+                    if (throwable != null) {
+                        return FutureUtil.<Boolean>completedWithException(WorldDirectoryOperations.cause(throwable));
+                    }
 
-        return CompletableFuture.completedFuture(true);
+                    try {
+                        this.server().dataPackManager().delete(this.findPack(key), key);
+                    } catch (final IOException e) {
+                        return FutureUtil.<Boolean>completedWithException(e);
+                    }
+                    return CompletableFuture.completedFuture(true);
+                }, this.server)
+                .thenCompose(Function.identity());
     }
 
     private DataPack<WorldTemplate> findPack(ResourceKey key) {
@@ -682,6 +830,8 @@ private void unloadWorld0(final ServerLevel world) throws IOException {
         final UnloadWorldEvent unloadWorldEvent = SpongeEventFactory.createUnloadWorldEvent(PhaseTracker.getCauseStackManager().currentCause(), (ServerWorld) world);
         SpongeCommon.post(unloadWorldEvent);
 
+        ((ServerLevelBridge) world).bridge$chunkLoader().close();
+
         final BlockPos spawnPoint = world.getSharedSpawnPos();
         world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(spawnPoint), 11, registryKey.location());
 
@@ -696,9 +846,11 @@ private void unloadWorld0(final ServerLevel world) throws IOException {
         }
 
         this.worlds.remove(registryKey);
+        this.disposeInstance(registryKey);
     }
 
     public void loadLevel() {
+        this.sweepOrphanedInstances();
 
         final boolean multiworldEnabled = this.server.isSingleplayer() || this.server.isNetherEnabled();
         if (!multiworldEnabled) {
@@ -706,7 +858,8 @@ public void loadLevel() {
                     + "Multi-World support has been disabled and no worlds besides the default world will be loaded.");
         }
 
-        final ChunkProgressListener chunkStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
+        final boolean parallelSpawnPreparation = SpongeConfigs.getCommon().get().world.parallelSpawnPreparation;
+        final ChunkProgressListener sharedStatusListener = ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11);
         var registry = SpongeCommon.vanillaRegistry(Registries.LEVEL_STEM);
         for (LevelStem template : registry) {
             final ResourceKey worldKey = (ResourceKey) (Object) registry.getKey(template);
@@ -726,6 +879,10 @@ public void loadLevel() {
             }
             MinecraftServerAccessor.accessor$LOGGER().info("Loading world '{}' ({})", worldKey, worldTypeKey.map(ResourceKey::toString).orElse("inline"));
             final net.minecraft.resources.ResourceKey<Level> registryKey = SpongeWorldManager.createRegistryKey(worldKey);
+            // Spawn areas prepared together each need their own listener to report progress
+            final ChunkProgressListener chunkStatusListener = parallelSpawnPreparation
+                    ? ((MinecraftServerAccessor) this.server).accessor$progressListenerFactory().create(11)
+                    : sharedStatusListener;
             if (isDefaultWorld) {
                 final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) this.server).accessor$storageSource();
                 final PrimaryLevelData levelData = (PrimaryLevelData) this.server.getWorldData();
@@ -753,11 +910,15 @@ public void loadLevel() {
 
         ((MinecraftServerAccessor) this.server).invoker$forceDifficulty();
 
-        for (final Map.Entry<net.minecraft.resources.ResourceKey<Level>, ServerLevel> entry : this.worlds.entrySet()) {
-            try {
-                this.postWorldLoad(entry.getValue(), true).get();
-            } catch (final InterruptedException | ExecutionException e) {
-                throw new IllegalStateException(e);
+        if (parallelSpawnPreparation) {
+            this.loadSpawnChunks(this.worlds.values());
+        } else {
+            for (final Map.Entry<net.minecraft.resources.ResourceKey<Level>, ServerLevel> entry : this.worlds.entrySet()) {
+                try {
+                    this.postWorldLoad(entry.getValue(), true).get();
+                } catch (final InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException(e);
+                }
             }
         }
 
@@ -940,32 +1101,47 @@ private CompletableFuture<ServerLevel> loadSpawnChunksAsync(final ServerLevel wo
 //        serverChunkProvider.getLightEngine().setTaskPerBatch(500); was 5 in 1.19.4 , final 1000 in 1.20
 
         final int borderRadius = 11;
-        final int diameter = ((borderRadius - 1) * 2) + 1;
-        final int spawnChunks = diameter * diameter;
-
-        serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
-        final CompletableFuture<ServerLevel> generationFuture = new CompletableFuture<>();
-        Sponge.asyncScheduler().submit(
-                Task.builder().plugin(Launch.instance().platformPlugin())
-                        .execute(task -> {
-                            if (serverChunkProvider.getTickingGenerated() >= spawnChunks) {
-                                Sponge.server().scheduler().submit(Task.builder().plugin(Launch.instance().platformPlugin()).execute(() -> generationFuture.complete(world)).build());
-                                // Notify the future that we are done
-                                task.cancel(); // And cancel this task
-                                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
-                                        this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
-                            }
-                        })
-                        .interval(10, TimeUnit.MILLISECONDS)
-                        .build()
-        );
-        return generationFuture.thenApply(v -> {
+        final int radius = borderRadius - 1;
+
+        // Tickets and chunk holders may only be touched on the main thread
+        final CompletableFuture<Void> tickingFuture = this.server.submit(() -> {
+            serverChunkProvider.addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
+            // Apply the ticket now so the holders of the spawn area exist and are scheduled
+            ((ServerChunkCacheAccessor) serverChunkProvider).invoker$runDistanceManagerUpdates();
+
+            final ChunkMapAccessor chunkMap = (ChunkMapAccessor) serverChunkProvider.chunkMap;
+            final List<CompletableFuture<?>> spawnChunks = new ArrayList<>();
+            for (int x = -radius; x <= radius; x++) {
+                for (int z = -radius; z <= radius; z++) {
+                    final ChunkPos spawnChunk = new ChunkPos(chunkPos.x + x, chunkPos.z + z);
+                    final @Nullable ChunkHolder holder = chunkMap.invoker$getVisibleChunkIfPresent(spawnChunk.toLong());
+                    if (holder == null) {
+                        throw new IllegalStateException(String.format("Spawn chunk %s of world '%s' has no holder after its ticket was applied",
+                                spawnChunk, world.dimension().location()));
+                    }
+                    // An unloaded or failed chunk completes the future too, so it must not count as ready
+                    spawnChunks.add(holder.getTickingChunkFuture().thenApply(result -> {
+                        if (!result.isSuccess()) {
+                            throw new IllegalStateException(String.format("Spawn chunk %s of world '%s' did not become ticking: %s",
+                                    spawnChunk, world.dimension().location(), result.getError()));
+                        }
+                        return result;
+                    }));
+                }
+            }
+            // Ticking futures are completed on the main thread, so everything after this runs in the tick the last chunk became ticking
+            return CompletableFuture.allOf(spawnChunks.toArray(new CompletableFuture<?>[0]));
+        }).thenCompose(Function.identity());
+
+        return tickingFuture.thenApply(v -> {
+            MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
+                    this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
             this.updateForcedChunks(world, serverChunkProvider);
 //            serverChunkProvider.getLightEngine().setTaskPerBatch(5);
 
             // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
             if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
-                serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+                serverChunkProvider.removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, borderRadius, world.dimension().location());
             }
             return world;
         });
@@ -1002,6 +1178,65 @@ private void loadSpawnChunks(final ServerLevel world) {
         }
     }
 
+    /**
+     * Prepares the spawn areas of all given worlds at once. Every region ticket
+     * is added up front so the chunk workers can generate all worlds at the same
+     * time; each world is finished off once its own area is ticking.
+     */
+    private void loadSpawnChunks(final Collection<ServerLevel> worlds) {
+        final List<ServerLevel> preparing = new ArrayList<>();
+        for (final ServerLevel world : worlds) {
+            if (!Level.OVERWORLD.equals(world.dimension()) && !((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
+                continue;
+            }
+            MinecraftServerAccessor.accessor$LOGGER().info("Preparing start region for world '{}' ({})", world.dimension().location(),
+                    this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
+            final ChunkPos chunkPos = new ChunkPos(world.getSharedSpawnPos());
+            final ChunkProgressListener chunkStatusListener = ((ServerLevelBridge) world).bridge$getChunkStatusListener();
+            chunkStatusListener.updateSpawnPos(chunkPos);
+            chunkStatusListener.start();
+            world.getChunkSource().addRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, chunkPos, 11, world.dimension().location());
+            preparing.add(world);
+        }
+
+        ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos());
+        // Like the single world path, each world waits a tick before and after its forced chunks are updated
+        final List<ServerLevel> ticking = new ArrayList<>();
+        final List<ServerLevel> forcing = new ArrayList<>();
+        while (!preparing.isEmpty() || !ticking.isEmpty() || !forcing.isEmpty()) {
+            ((MinecraftServerAccessor) this.server).accessor$nextTickTimeNanos(Util.getNanos() + 10L * TimeUtil.NANOSECONDS_PER_MILLISECOND);
+            ((MinecraftServerAccessor) this.server).accessor$waitUntilNextTick();
+
+            for (final ServerLevel world : forcing) {
+                ((ServerLevelBridge) world).bridge$getChunkStatusListener().stop();
+                MinecraftServerAccessor.accessor$LOGGER().info("Done preparing start region for world '{}' ({})", world.dimension().location(),
+                        this.worldTypeKey(world.dimensionType()).map(ResourceKey::toString).orElse("inline"));
+
+                // Sponge Start - Release the chunk ticket if spawn is not set to be kept loaded...
+                if (!((PrimaryLevelDataBridge) world.getLevelData()).bridge$performsSpawnLogic()) {
+                    world.getChunkSource().removeRegionTicket(SpongeWorldManager.SPAWN_CHUNKS, new ChunkPos(world.getSharedSpawnPos()), 11,
+                            world.dimension().location());
+                }
+            }
+            forcing.clear();
+
+            for (final ServerLevel world : ticking) {
+                this.updateForcedChunks(world, world.getChunkSource());
+                forcing.add(world);
+            }
+            ticking.clear();
+
+            for (final Iterator<ServerLevel> iterator = preparing.iterator(); iterator.hasNext(); ) {
+                final ServerLevel world = iterator.next();
+                if (world.getChunkSource().getTickingGenerated() < 441) {
+                    continue;
+                }
+                iterator.remove();
+                ticking.add(world);
+            }
+        }
+    }
+
     private void updateForcedChunks(final ServerLevel world, final ServerChunkCache serverChunkProvider) {
         final ForcedChunksSavedData forcedChunksSaveData = world.getDataStorage().get(ForcedChunksSavedData.factory(), "chunks");
         if (forcedChunksSaveData != null) {
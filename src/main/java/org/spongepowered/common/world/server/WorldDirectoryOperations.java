@@ -0,0 +1,291 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Copies and deletes world directories off the main thread. Files are handled
+ * in parallel on a small I/O pool, and copies go through
+ * {@link FileChannel#transferTo} so the kernel can move the data without it
+ * passing through the JVM.
+ */
+final class WorldDirectoryOperations {
+
+    private static final ExecutorService IO_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors())),
+            new ThreadFactoryBuilder()
+                    .setDaemon(true)
+                    .setNameFormat("Sponge-World-IO-%d")
+                    .build());
+
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Copies the contents of {@code source} into {@code target}.
+     *
+     * @param name The name to report progress under
+     * @param source The directory to copy
+     * @param target The directory to copy into
+     * @param skipDirectory Whether a directory, and everything below it, should not be copied
+     * @param skipFile Whether a file should not be copied
+     * @return A future completed once every file has been copied
+     */
+    static CompletableFuture<Void> copy(final String name, final Path source, final Path target,
+            final Predicate<Path> skipDirectory, final Predicate<Path> skipFile) {
+        return CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            final long totalBytes;
+            try {
+                totalBytes = WorldDirectoryOperations.collect(source, target, skipDirectory, skipFile, files);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Progress(name, "Copied", files.size(), totalBytes, files);
+        }, WorldDirectoryOperations.IO_EXECUTOR).thenCompose(progress -> CompletableFuture.allOf(progress.files.stream()
+                .map(file -> CompletableFuture.runAsync(() -> {
+                    try {
+                        progress.completed(WorldDirectoryOperations.copyFile(file, target.resolve(source.relativize(file))));
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, WorldDirectoryOperations.IO_EXECUTOR))
+                .toArray(CompletableFuture[]::new))
+                .thenRun(progress::finish));
+    }
+
+    /**
+     * Moves {@code source} to {@code target}. When the file system cannot
+     * rename the directory atomically, for example because the two are on
+     * different file systems, it is copied and the original deleted afterwards.
+     * Any other failure fails the move.
+     *
+     * @param name The name to report progress under
+     * @param source The directory to move
+     * @param target The directory to move to
+     * @return A future completed once the directory has been moved
+     */
+    static CompletableFuture<Void> move(final String name, final Path source, final Path target) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(target.getParent());
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (final AtomicMoveNotSupportedException e) {
+                return false;
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, WorldDirectoryOperations.IO_EXECUTOR).thenCompose(moved -> moved
+                ? CompletableFuture.completedFuture(null)
+                : WorldDirectoryOperations.copy(name, source, target, dir -> false, file -> false)
+                        .thenCompose(v -> WorldDirectoryOperations.delete(name, source)));
+    }
+
+    /**
+     * Deletes {@code directory} and everything within it.
+     *
+     * @param name The name to report progress under
+     * @param directory The directory to delete
+     * @return A future completed once the directory is gone
+     */
+    static CompletableFuture<Void> delete(final String name, final Path directory) {
+        final List<Path> directories = new ArrayList<>();
+        return CompletableFuture.supplyAsync(() -> {
+            final List<Path> files = new ArrayList<>();
+            if (Files.notExists(directory)) {
+                return new Progress(name, "Deleted", 0, 0, files);
+            }
+            try {
+                Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                        directories.add(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                        files.add(file);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Progress(name, "Deleted", files.size(), 0, files);
+        }, WorldDirectoryOperations.IO_EXECUTOR).thenCompose(progress -> CompletableFuture.allOf(progress.files.stream()
+                .map(file -> CompletableFuture.runAsync(() -> {
+                    try {
+                        Files.deleteIfExists(file);
+                        progress.completed(0);
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, WorldDirectoryOperations.IO_EXECUTOR))
+                .toArray(CompletableFuture[]::new))
+                .thenRunAsync(() -> {
+                    // Children were visited after their parents, so the deepest directories go first
+                    directories.sort(Comparator.comparingInt(Path::getNameCount).reversed());
+                    for (final Path dir : directories) {
+                        try {
+                            Files.deleteIfExists(dir);
+                        } catch (final IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                    progress.finish();
+                }, WorldDirectoryOperations.IO_EXECUTOR));
+    }
+
+    /**
+     * Unwraps the {@link IOException} a failed operation completed with.
+     *
+     * @param throwable The failure
+     * @return The cause to report
+     */
+    static Throwable cause(final Throwable throwable) {
+        Throwable cause = throwable;
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof final UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        return cause;
+    }
+
+    private static long collect(final Path source, final Path target, final Predicate<Path> skipDirectory,
+            final Predicate<Path> skipFile, final List<Path> files) throws IOException {
+        final AtomicLong totalBytes = new AtomicLong();
+        Files.walkFileTree(source, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(source) && skipDirectory.test(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                Files.createDirectories(target.resolve(source.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                if (!skipFile.test(file)) {
+                    files.add(file);
+                    totalBytes.addAndGet(attrs.size());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return totalBytes.get();
+    }
+
+    private static long copyFile(final Path from, final Path to) throws IOException {
+        try (final FileChannel in = FileChannel.open(from, StandardOpenOption.READ);
+                final FileChannel out = FileChannel.open(to, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            final long size = in.size();
+            long position = 0;
+            // transferTo may move fewer bytes than asked for
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+            Files.setLastModifiedTime(to, Files.getLastModifiedTime(from));
+            return size;
+        }
+    }
+
+    private static final class Progress {
+
+        final String name;
+        final String action;
+        final int totalFiles;
+        final long totalBytes;
+        final List<Path> files;
+        final long start = System.nanoTime();
+        final AtomicLong completedFiles = new AtomicLong();
+        final AtomicLong completedBytes = new AtomicLong();
+        final AtomicLong lastReport = new AtomicLong(this.start);
+
+        Progress(final String name, final String action, final int totalFiles, final long totalBytes, final List<Path> files) {
+            this.name = name;
+            this.action = action;
+            this.totalFiles = totalFiles;
+            this.totalBytes = totalBytes;
+            this.files = files;
+        }
+
+        void completed(final long bytes) {
+            final long done = this.completedFiles.incrementAndGet();
+            final long bytesDone = this.completedBytes.addAndGet(bytes);
+            final long now = System.nanoTime();
+            final long last = this.lastReport.get();
+            if (now - last >= WorldDirectoryOperations.PROGRESS_INTERVAL && this.lastReport.compareAndSet(last, now)) {
+                SpongeCommon.logger().info("{} {}/{} files of world '{}'{}", this.action, done, this.totalFiles, this.name,
+                        this.throughput(bytesDone, now));
+            }
+        }
+
+        void finish() {
+            final long now = System.nanoTime();
+            SpongeCommon.logger().info("{} {} files of world '{}' in {} ms{}", this.action, this.completedFiles.get(), this.name,
+                    TimeUnit.NANOSECONDS.toMillis(now - this.start), this.throughput(this.completedBytes.get(), now));
+        }
+
+        private String throughput(final long bytes, final long now) {
+            if (this.totalBytes == 0) {
+                return "";
+            }
+            final double seconds = Math.max(now - this.start, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+            return String.format(" (%.1f MiB/s)", bytes / seconds / (1024 * 1024));
+        }
+    }
+
+    private WorldDirectoryOperations() {
+    }
+}
@@ -34,7 +34,6 @@
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.state.StateContainer;
-import org.spongepowered.api.world.teleport.TeleportHelperFilter;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.applaunch.config.common.TeleportHelperCategory;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
@@ -44,7 +43,7 @@
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-public final class ConfigTeleportHelperFilter implements TeleportHelperFilter {
+public final class ConfigTeleportHelperFilter implements SnapshotTeleportHelperFilter {
 
     // We try to cache this in case of big mod blacklists, we don't want to parse this
     // all the time.
@@ -92,6 +91,11 @@ private static void updateCacheIfNecessary() {
         }
     }
 
+    @Override
+    public boolean checksSnapshot() {
+        return true;
+    }
+
     @Override
     public boolean isSafeFloorMaterial(final @NonNull BlockState blockState) {
         ConfigTeleportHelperFilter.updateCacheIfNecessary();
@@ -29,10 +29,15 @@
 import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.block.Blocks;
 import org.spongepowered.api.block.BlockState;
-import org.spongepowered.api.world.teleport.TeleportHelperFilter;
 import org.spongepowered.common.accessor.world.level.block.state.BlockBehaviourAccessor;
 
-public class DefaultTeleportHelperFilter implements TeleportHelperFilter {
+public class DefaultTeleportHelperFilter implements SnapshotTeleportHelperFilter {
+
+    @Override
+    public boolean checksSnapshot() {
+        // Subclasses may override the live check only, so they have to opt in
+        return this.getClass() == DefaultTeleportHelperFilter.class;
+    }
 
     @Override
     public boolean isSafeFloorMaterial(BlockState blockState) {
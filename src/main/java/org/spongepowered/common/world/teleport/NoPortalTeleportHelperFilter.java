@@ -29,6 +29,11 @@
 
 public final class NoPortalTeleportHelperFilter extends DefaultTeleportHelperFilter {
 
+    @Override
+    public boolean checksSnapshot() {
+        return true;
+    }
+
     @Override
     public boolean isSafeFloorMaterial(BlockState blockState) {
         return !((net.minecraft.world.level.block.state.BlockState) blockState).is(BlockTags.PORTALS) && super.isSafeFloorMaterial(blockState);
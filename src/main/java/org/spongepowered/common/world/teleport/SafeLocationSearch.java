@@ -0,0 +1,423 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.teleport.TeleportHelperFilter;
+import org.spongepowered.math.GenericMath;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * A safe location search over a snapshot of the searched region, used to
+ * search off the server thread.
+ *
+ * <p>The chunk sections and surface heights of the region, as well as the
+ * material checks of every filter for each block state found in it, are
+ * captured on the server thread when the search is created. Candidates are
+ * then visited in the same order as
+ * {@link SpongeTeleportHelper#findSafeLocation}, closest first, from packed
+ * positions. Filters which are not {@link SnapshotTeleportHelperFilter}s, or
+ * do not {@link SnapshotTeleportHelperFilter#checksSnapshot() check the
+ * snapshot}, can only check a location against the live world, so a candidate must be
+ * {@link #confirm(Vector3i) confirmed} on the server thread before being
+ * used.</p>
+ */
+final class SafeLocationSearch {
+
+    private static final byte SAFE_FLOOR = 1;
+    private static final byte SAFE_BODY = 2;
+
+    private final ServerLevel level;
+    private final Bounds bounds;
+    private final int floorDistanceCheck;
+    private final List<SnapshotTeleportHelperFilter> snapshotFilters = new ArrayList<>();
+    private final List<TeleportHelperFilter> liveFilters = new ArrayList<>();
+
+    // The snapshot, covering the searched region and the blocks checked around it
+    private final int minY;
+    private final int maxY;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int chunksZ;
+    private final int sectionsY;
+    private final @Nullable PalettedContainer<BlockState>[] sections;
+    private final int[] heights;
+    private final Reference2ByteOpenHashMap<BlockState> materials = new Reference2ByteOpenHashMap<>();
+
+    private @Nullable LongIterator candidates;
+
+    /**
+     * Captures the snapshot, must be called on the server thread once every
+     * chunk of the region is loaded.
+     */
+    @SuppressWarnings("unchecked")
+    SafeLocationSearch(final ServerLevel level, final Bounds bounds, final int floorDistanceCheck,
+            final Collection<TeleportHelperFilter> filters) {
+        this.level = level;
+        this.bounds = bounds;
+        this.floorDistanceCheck = floorDistanceCheck;
+        for (final TeleportHelperFilter filter : filters) {
+            if (filter instanceof SnapshotTeleportHelperFilter snapshotFilter && snapshotFilter.checksSnapshot()) {
+                this.snapshotFilters.add(snapshotFilter);
+            } else {
+                this.liveFilters.add(filter);
+            }
+        }
+
+        this.minY = Math.max(0, bounds.minY - Math.max(0, floorDistanceCheck));
+        this.maxY = bounds.maxY + 1;
+        this.minChunkX = bounds.minX >> 4;
+        this.minChunkZ = bounds.minZ >> 4;
+        this.chunksZ = (bounds.maxZ >> 4) - this.minChunkZ + 1;
+        this.sectionsY = (this.maxY >> 4) - (this.minY >> 4) + 1;
+        final int chunksX = (bounds.maxX >> 4) - this.minChunkX + 1;
+        this.sections = new PalettedContainer[chunksX * this.chunksZ * this.sectionsY];
+        for (int cx = 0; cx < chunksX; cx++) {
+            for (int cz = 0; cz < this.chunksZ; cz++) {
+                final LevelChunk chunk = level.getChunk(this.minChunkX + cx, this.minChunkZ + cz);
+                final LevelChunkSection[] chunkSections = chunk.getSections();
+                for (int sy = 0; sy < this.sectionsY; sy++) {
+                    final int index = chunk.getSectionIndexFromSectionY((this.minY >> 4) + sy);
+                    if (index < 0 || index >= chunkSections.length) {
+                        continue;
+                    }
+                    final PalettedContainer<BlockState> states = chunkSections[index].getStates().copy();
+                    states.getAll(state -> {
+                        if (!this.materials.containsKey(state)) {
+                            this.materials.put(state, SafeLocationSearch.materials(state, filters));
+                        }
+                    });
+                    this.sections[(cx * this.chunksZ + cz) * this.sectionsY + sy] = states;
+                }
+            }
+        }
+
+        final int sizeZ = bounds.maxZ - bounds.minZ + 1;
+        this.heights = new int[(bounds.maxX - bounds.minX + 1) * sizeZ];
+        for (int x = bounds.minX; x <= bounds.maxX; x++) {
+            for (int z = bounds.minZ; z <= bounds.maxZ; z++) {
+                this.heights[(x - bounds.minX) * sizeZ + z - bounds.minZ] = level.getHeight(Heightmap.Types.WORLD_SURFACE, x, z);
+            }
+        }
+    }
+
+    private static byte materials(final BlockState state, final Collection<TeleportHelperFilter> filters) {
+        final org.spongepowered.api.block.BlockState apiState = (org.spongepowered.api.block.BlockState) state;
+        byte materials = 0;
+        if (filters.stream().allMatch(filter -> filter.isSafeFloorMaterial(apiState))) {
+            materials |= SafeLocationSearch.SAFE_FLOOR;
+        }
+        if (filters.stream().allMatch(filter -> filter.isSafeBodyMaterial(apiState))) {
+            materials |= SafeLocationSearch.SAFE_BODY;
+        }
+        return materials;
+    }
+
+    /**
+     * Gets the highest y coordinate of the snapshot at the given column, as
+     * {@link ServerWorld#highestYAt(int, int)} would.
+     *
+     * @param x The x coordinate
+     * @param z The z coordinate
+     * @return The highest y coordinate
+     */
+    int highestYAt(final int x, final int z) {
+        return this.heights[(x - this.bounds.minX) * (this.bounds.maxZ - this.bounds.minZ + 1) + z - this.bounds.minZ];
+    }
+
+    /**
+     * Finds the next candidate passing every check that can be made against
+     * the snapshot. May be called off the server thread.
+     *
+     * @return The next candidate, if any remain
+     */
+    Optional<Vector3i> next() {
+        if (this.candidates == null) {
+            this.candidates = this.bounds.candidates();
+        }
+        while (this.candidates.hasNext()) {
+            final long pos = this.candidates.nextLong();
+            final int x = BlockPos.getX(pos);
+            final int y = BlockPos.getY(pos);
+            final int z = BlockPos.getZ(pos);
+            if (this.test(x, y, z)) {
+                return Optional.of(new Vector3i(x, y, z));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks the given candidate against the filters which need the live
+     * world, must be called on the server thread.
+     *
+     * <p>As in {@link SpongeTeleportHelper#findSafeLocation}, the materials
+     * around the candidate only decide once a filter is undefined about it.
+     * Candidates a snapshot filter was undefined about have had their
+     * materials checked by {@link #next()} already.</p>
+     *
+     * @param candidate The candidate returned by {@link #next()}
+     * @return Whether the candidate is safe
+     */
+    boolean confirm(final Vector3i candidate) {
+        final Tristate isValid = this.isValidLocation(candidate);
+        if (isValid == Tristate.UNDEFINED) {
+            return this.isMaterialSafe(candidate.x(), candidate.y(), candidate.z());
+        }
+        return isValid.asBoolean();
+    }
+
+    private Tristate isValidLocation(final Vector3i candidate) {
+        Tristate result = Tristate.TRUE;
+        for (final TeleportHelperFilter filter : this.liveFilters) {
+            final Tristate isValid = filter.isValidLocation((ServerWorld) this.level, candidate);
+            if (isValid == Tristate.FALSE) {
+                return Tristate.FALSE;
+            }
+            if (isValid == Tristate.UNDEFINED) {
+                result = Tristate.UNDEFINED;
+            }
+        }
+        return result;
+    }
+
+    private boolean test(final int x, final int y, final int z) {
+        boolean allValid = true;
+        for (final SnapshotTeleportHelperFilter filter : this.snapshotFilters) {
+            final Tristate isValid = filter.isValidLocation(this, x, y, z);
+            if (isValid == Tristate.FALSE) {
+                return false;
+            }
+            if (isValid == Tristate.UNDEFINED) {
+                allValid = false;
+            }
+        }
+        // Filters needing the live world may still require the materials to be checked, which confirm(...) does
+        return allValid || this.isMaterialSafe(x, y, z);
+    }
+
+    private boolean isMaterialSafe(final int x, final int y, final int z) {
+        // Check the block and the one ABOVE are safe for the body, and the ones BELOW for the floor.
+        return (this.materials(x, y, z) & SafeLocationSearch.SAFE_BODY) != 0
+            && (this.materials(x, y + 1, z) & SafeLocationSearch.SAFE_BODY) != 0
+            && (this.floorDistanceCheck <= 0 || this.isFloorSafe(x, y, z));
+    }
+
+    private boolean isFloorSafe(final int x, final int y, final int z) {
+        for (int i = 1; i < this.floorDistanceCheck; ++i) {
+            final byte materials = this.materials(x, y - i, z);
+            if ((materials & SafeLocationSearch.SAFE_FLOOR) != 0) {
+                return true;
+            }
+            if ((materials & SafeLocationSearch.SAFE_BODY) == 0) {
+                return false;
+            }
+        }
+        return (this.materials(x, y - this.floorDistanceCheck, z) & SafeLocationSearch.SAFE_FLOOR) != 0;
+    }
+
+    private byte materials(final int x, final int y, final int z) {
+        if (y < this.minY || y > this.maxY) {
+            // Anything outside of the snapshot isn't safe, no point going further.
+            return 0;
+        }
+        final @Nullable PalettedContainer<BlockState> states = this.sections[
+            (((x >> 4) - this.minChunkX) * this.chunksZ + (z >> 4) - this.minChunkZ) * this.sectionsY + (y >> 4) - (this.minY >> 4)];
+        return states == null ? 0 : this.materials.getByte(states.get(x & 15, y & 15, z & 15));
+    }
+
+    /**
+     * The region searched for a safe location around an origin.
+     */
+    record Bounds(Vector3i origin, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+
+        static Bounds of(final ServerLocation location, final int height, final int width) {
+            // We don't want to warp outside of the world border, so we want to check that we're within it.
+            final WorldBorder.Settings worldBorder = (WorldBorder.Settings) location.world().properties().worldBorder();
+            final double radius = worldBorder.getSize() / 2.0D;
+            final int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
+            final int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
+            final int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
+            final int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
+
+            // Get the World and get the maximum Y value.
+            final int worldMaxY = location.world().max().y();
+
+            final Vector3i origin = location.blockPosition();
+
+            // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
+            // world border and the world height.
+            return new Bounds(origin,
+                GenericMath.clamp(origin.x() - width, worldBorderMinX, worldBorderMaxX),
+                GenericMath.clamp(origin.y() - height, 0, worldMaxY),
+                GenericMath.clamp(origin.z() - width, worldBorderMinZ, worldBorderMaxZ),
+                GenericMath.clamp(origin.x() + width, worldBorderMinX, worldBorderMaxX),
+                GenericMath.clamp(origin.y() + height, 0, worldMaxY),
+                GenericMath.clamp(origin.z() + width, worldBorderMinZ, worldBorderMaxZ));
+        }
+
+        /**
+         * Gets every position of the region as packed {@link BlockPos}, sorted
+         * by distance to the origin. Ties prefer changes in Y over X and Z, and
+         * higher over lower locations.
+         *
+         * <p>Positions are generated one spherical shell around the origin at
+         * a time, so only the shell being visited is held and sorted rather
+         * than the whole region.</p>
+         *
+         * @return The sorted positions
+         */
+        LongIterator candidates() {
+            return new Candidates(this);
+        }
+
+        private static long distanceSquared(final long dx, final long dy, final long dz) {
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * Visits the positions of a {@link Bounds} shell by shell. Shell {@code r}
+     * holds the positions whose squared distance to the origin is at least
+     * {@code r * r} and below {@code (r + 1) * (r + 1)}, which all lie within
+     * {@code r} blocks of the origin on every axis.
+     */
+    private static final class Candidates implements LongIterator {
+
+        private final Bounds bounds;
+        private final int lastShell;
+        private final LongArrayList shell = new LongArrayList();
+        private int nextShell;
+        private int cursor;
+
+        Candidates(final Bounds bounds) {
+            this.bounds = bounds;
+            final long dx = Math.max(Math.abs(bounds.minX - bounds.origin.x()), Math.abs(bounds.maxX - bounds.origin.x()));
+            final long dy = Math.max(Math.abs(bounds.minY - bounds.origin.y()), Math.abs(bounds.maxY - bounds.origin.y()));
+            final long dz = Math.max(Math.abs(bounds.minZ - bounds.origin.z()), Math.abs(bounds.maxZ - bounds.origin.z()));
+            this.lastShell = (int) Candidates.floorSqrt(Bounds.distanceSquared(dx, dy, dz));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.cursor == this.shell.size()) {
+                if (this.nextShell > this.lastShell) {
+                    return false;
+                }
+                this.fill(this.nextShell++);
+            }
+            return true;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return this.shell.getLong(this.cursor++);
+        }
+
+        private void fill(final int r) {
+            this.shell.clear();
+            this.cursor = 0;
+            final int originX = this.bounds.origin.x();
+            final int originY = this.bounds.origin.y();
+            final int originZ = this.bounds.origin.z();
+            final long min = (long) r * r;
+            final long max = (long) (r + 1) * (r + 1) - 1;
+            for (int dy = Math.max(this.bounds.minY - originY, -r); dy <= Math.min(this.bounds.maxY - originY, r); dy++) {
+                for (int dx = Math.max(this.bounds.minX - originX, -r); dx <= Math.min(this.bounds.maxX - originX, r); dx++) {
+                    final long remaining = (long) dx * dx + (long) dy * dy;
+                    if (remaining > max) {
+                        continue;
+                    }
+                    final int fromZ = remaining >= min ? 0 : (int) Candidates.ceilSqrt(min - remaining);
+                    final int toZ = (int) Candidates.floorSqrt(max - remaining);
+                    for (int dz = fromZ; dz <= toZ; dz++) {
+                        this.add(originX + dx, originY + dy, originZ + dz);
+                        if (dz != 0) {
+                            this.add(originX + dx, originY + dy, originZ - dz);
+                        }
+                    }
+                }
+            }
+            LongArrays.quickSort(this.shell.elements(), 0, this.shell.size(), (a, b) -> {
+                final int ay = BlockPos.getY(a);
+                final int by = BlockPos.getY(b);
+                final int compare = Long.compare(
+                    Bounds.distanceSquared(BlockPos.getX(a) - originX, ay - originY, BlockPos.getZ(a) - originZ),
+                    Bounds.distanceSquared(BlockPos.getX(b) - originX, by - originY, BlockPos.getZ(b) - originZ));
+                if (compare != 0) {
+                    return compare;
+                }
+                final int dy = Integer.compare(Math.abs(originY - by), Math.abs(originY - ay));
+                return dy != 0 ? dy : Integer.compare(by, ay);
+            });
+        }
+
+        private void add(final int x, final int y, final int z) {
+            if (z >= this.bounds.minZ && z <= this.bounds.maxZ) {
+                this.shell.add(BlockPos.asLong(x, y, z));
+            }
+        }
+
+        private static long floorSqrt(final long value) {
+            long root = (long) Math.sqrt(value);
+            while (root * root > value) {
+                root--;
+            }
+            while ((root + 1) * (root + 1) <= value) {
+                root++;
+            }
+            return root;
+        }
+
+        private static long ceilSqrt(final long value) {
+            final long root = Candidates.floorSqrt(value);
+            return root * root == value ? root : root + 1;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.api.world.teleport.TeleportHelperFilter;
+
+/**
+ * A {@link TeleportHelperFilter} able to check a location against a
+ * {@link SafeLocationSearch} snapshot instead of the live world, so it can be
+ * evaluated off the server thread.
+ */
+interface SnapshotTeleportHelperFilter extends TeleportHelperFilter {
+
+    /**
+     * The snapshot counterpart of
+     * {@link TeleportHelperFilter#isValidLocation(org.spongepowered.api.world.server.ServerWorld, org.spongepowered.math.vector.Vector3i)}.
+     *
+     * @param search The search holding the snapshot
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return Whether the location is valid
+     */
+    default Tristate isValidLocation(final SafeLocationSearch search, final int x, final int y, final int z) {
+        return Tristate.UNDEFINED;
+    }
+
+    /**
+     * Gets whether {@link #isValidLocation(SafeLocationSearch, int, int, int)}
+     * makes the same checks as the live
+     * {@link TeleportHelperFilter#isValidLocation(org.spongepowered.api.world.server.ServerWorld, org.spongepowered.math.vector.Vector3i)}.
+     * Filters which do not are confirmed against the live world.
+     *
+     * @return Whether the snapshot check can replace the live check
+     */
+    boolean checksSnapshot();
+}
@@ -26,7 +26,11 @@
 
 import com.google.common.collect.Sets;
 import com.google.inject.Singleton;
-import net.minecraft.world.level.border.WorldBorder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.World;
@@ -35,19 +39,23 @@
 import org.spongepowered.api.world.teleport.TeleportHelper;
 import org.spongepowered.api.world.teleport.TeleportHelperFilter;
 import org.spongepowered.api.world.teleport.TeleportHelperFilters;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
-import org.spongepowered.math.GenericMath;
+import org.spongepowered.common.bridge.server.level.ServerLevelBridge;
+import org.spongepowered.common.launch.Launch;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Singleton
 public final class SpongeTeleportHelper implements TeleportHelper {
@@ -56,13 +64,7 @@ public final class SpongeTeleportHelper implements TeleportHelper {
     public Optional<ServerLocation> findSafeLocation(ServerLocation location, int height, int width, int distanceToDrop,
             TeleportHelperFilter filter, TeleportHelperFilter... additionalFilters) {
         final ServerWorld world = location.world();
-        final Set<TeleportHelperFilter> filters = Sets.newHashSet(additionalFilters);
-        filters.add(filter);
-
-        if (SpongeConfigs.getCommon().get().teleportHelper.forceBlacklist) {
-            // Always force this into the set if the user has requested it.
-            filters.add(TeleportHelperFilters.CONFIG.get());
-        }
+        final Set<TeleportHelperFilter> filters = this.filters(filter, additionalFilters);
 
         // Get the vectors to check, and get the block types with them.
         // The vectors should be sorted by distance from the centre of the checking region, so
@@ -71,55 +73,76 @@ public Optional<ServerLocation> findSafeLocation(ServerLocation location, int he
         return result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5)));
     }
 
-    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
-        // We don't want to warp outside of the world border, so we want to check that we're within it.
-        final WorldBorder.Settings worldBorder = (WorldBorder.Settings) worldLocation.world().properties().worldBorder();
-        final double radius = worldBorder.getSize() / 2.0D;
-        int worldBorderMinX = GenericMath.floor(worldBorder.getCenterX() - radius);
-        int worldBorderMinZ = GenericMath.floor(worldBorder.getCenterZ() - radius);
-        int worldBorderMaxX = GenericMath.floor(worldBorder.getCenterX() + radius);
-        int worldBorderMaxZ = GenericMath.floor(worldBorder.getCenterZ() + radius);
-
-        // Get the World and get the maximum Y value.
-        int worldMaxY = worldLocation.world().max().y();
-
-        Vector3i vectorLocation = worldLocation.blockPosition();
-
-        // We use clamp to remain within the world confines, so we don't waste time checking blocks outside of the
-        // world border and the world height.
-        int minY = GenericMath.clamp(vectorLocation.y() - height, 0, worldMaxY);
-        int maxY = GenericMath.clamp(vectorLocation.y() + height, 0, worldMaxY);
-
-        int minX = GenericMath.clamp(vectorLocation.x() - width, worldBorderMinX, worldBorderMaxX);
-        int maxX = GenericMath.clamp(vectorLocation.x() + width, worldBorderMinX, worldBorderMaxX);
-
-        int minZ = GenericMath.clamp(vectorLocation.z() - width, worldBorderMinZ, worldBorderMaxZ);
-        int maxZ = GenericMath.clamp(vectorLocation.z() + width, worldBorderMinZ, worldBorderMaxZ);
-
-        // We now iterate over all possible x, y and z positions to get all possible vectors.
-        List<Vector3i> vectors = new ArrayList<>();
-        for (int y = minY; y <= maxY; y++) {
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    vectors.add(new Vector3i(x, y, z));
-                }
+    /**
+     * Finds a safe location like {@link #findSafeLocation}, without blocking
+     * the server thread.
+     *
+     * <p>The chunks of the searched region are loaded asynchronously, then
+     * snapshotted on the server thread and searched off of it. Filters that
+     * need the live world are checked against each found candidate back on the
+     * server thread.</p>
+     *
+     * @param location The location to search around
+     * @param height The vertical search distance
+     * @param width The horizontal search distance
+     * @param distanceToDrop The maximum distance to the floor
+     * @param filter The filter to apply
+     * @param additionalFilters Additional filters to apply
+     * @return The future completed with the safe location, if found
+     */
+    public CompletableFuture<Optional<ServerLocation>> findSafeLocationAsync(final ServerLocation location, final int height,
+            final int width, final int distanceToDrop, final TeleportHelperFilter filter, final TeleportHelperFilter... additionalFilters) {
+        final ServerWorld world = location.world();
+        final Set<TeleportHelperFilter> filters = this.filters(filter, additionalFilters);
+        final SafeLocationSearch.Bounds bounds = SafeLocationSearch.Bounds.of(location, height, width);
+
+        final List<Vector3i> chunks = new ArrayList<>();
+        for (int cx = bounds.minX() >> 4; cx <= bounds.maxX() >> 4; cx++) {
+            for (int cz = bounds.minZ() >> 4; cz <= bounds.maxZ() >> 4; cz++) {
+                chunks.add(new Vector3i(cx, 0, cz));
             }
         }
+        final MinecraftServer server = SpongeCommon.server();
+        return ((ServerLevelBridge) world).bridge$chunkLoader().loadChunks(Launch.instance().commonPlugin(), chunks, 0)
+            .thenApplyAsync($ -> new SafeLocationSearch((ServerLevel) world, bounds, distanceToDrop, filters), server)
+            .thenCompose(search -> this.search(search, server))
+            .thenApply(result -> result.map(vector3i -> ServerLocation.of(world, vector3i.toDouble().add(0.5, 0, 0.5))));
+    }
 
-        Comparator<Vector3i> c = Comparator.comparingInt(vectorLocation::distanceSquared);
+    private CompletableFuture<Optional<Vector3i>> search(final SafeLocationSearch search, final MinecraftServer server) {
+        return CompletableFuture.supplyAsync(search::next, ForkJoinPool.commonPool())
+            .thenComposeAsync(candidate -> {
+                if (candidate.isEmpty() || search.confirm(candidate.get())) {
+                    return CompletableFuture.completedFuture(candidate);
+                }
+                // Rejected by a filter needing the live world, resume from the next candidate.
+                return this.search(search, server);
+            }, server);
+    }
+
+    private Set<TeleportHelperFilter> filters(final TeleportHelperFilter filter, final TeleportHelperFilter... additionalFilters) {
+        final Set<TeleportHelperFilter> filters = Sets.newHashSet(additionalFilters);
+        filters.add(filter);
 
-        // The compiler seems to need this to be a new line.
-        // We check to see what the y location is, preferring changes in Y over X and Z, and higher over lower locations.
-        c = c.thenComparing(x -> -Math.abs(vectorLocation.y() - x.y())).thenComparing(x -> -x.y());
+        if (SpongeConfigs.getCommon().get().teleportHelper.forceBlacklist) {
+            // Always force this into the set if the user has requested it.
+            filters.add(TeleportHelperFilters.CONFIG.get());
+        }
+        return filters;
+    }
 
+    private Stream<Vector3i> getBlockLocations(ServerLocation worldLocation, int height, int width) {
         // Sort them according to the distance to the provided worldLocation.
-        return vectors.stream().sorted(c);
+        final Spliterator.OfLong candidates = Spliterators.spliteratorUnknownSize(
+            SafeLocationSearch.Bounds.of(worldLocation, height, width).candidates(), Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        return StreamSupport.longStream(candidates, false)
+            .mapToObj(pos -> new Vector3i(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos)));
     }
 
     private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> positionsToCheck, int floorDistanceCheck,
             Collection<TeleportHelperFilter> filters) {
         // We cache the various block lookup results so we don't check a block twice.
-        final Map<Vector3i, BlockData> blockCache = new HashMap<>();
+        final Long2ObjectMap<BlockData> blockCache = new Long2ObjectOpenHashMap<>();
 
         return positionsToCheck.filter(currentTarget -> {
             List<TeleportHelperFilter> undefinedResults = new ArrayList<>();
@@ -161,7 +184,7 @@ private Optional<Vector3i> getSafeLocation(ServerWorld world, Stream<Vector3i> p
         }).findFirst();
     }
 
-    private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, BlockData> blockCache, Collection<TeleportHelperFilter> filters,
+    private boolean isFloorSafe(Vector3i currentTarget, World world, Long2ObjectMap<BlockData> blockCache, Collection<TeleportHelperFilter> filters,
             int floorDistanceCheck) {
         for (int i = 1; i < floorDistanceCheck; ++i) {
             BlockData data = this.getBlockData(currentTarget.sub(0, i, 0), world, blockCache, filters);
@@ -181,19 +204,14 @@ private boolean isFloorSafe(Vector3i currentTarget, World world, Map<Vector3i, B
         return this.getBlockData(currentTarget.sub(0, floorDistanceCheck, 0), world, blockCache, filters).isSafeFloor;
     }
 
-    private BlockData getBlockData(Vector3i vector3i, World world, Map<Vector3i, BlockData> cache, Collection<TeleportHelperFilter> filters) {
+    private BlockData getBlockData(Vector3i vector3i, World world, Long2ObjectMap<BlockData> cache, Collection<TeleportHelperFilter> filters) {
         if (vector3i.y() < 0) {
             // Anything below this isn't safe, no point going further.
             return new BlockData();
         }
 
-        if (cache.containsKey(vector3i)) {
-            return cache.get(vector3i);
-        }
-
-        BlockData data = new BlockData(world.block(vector3i), filters);
-        cache.put(vector3i, data);
-        return data;
+        return cache.computeIfAbsent(BlockPos.asLong(vector3i.x(), vector3i.y(), vector3i.z()),
+            pos -> new BlockData(world.block(vector3i), filters));
     }
 
     private class BlockData {
@@ -30,6 +30,11 @@
 
 public final class SurfaceOnlyTeleportHelperFilter extends DefaultTeleportHelperFilter {
 
+    @Override
+    public boolean checksSnapshot() {
+        return true;
+    }
+
     @Override
     public Tristate isValidLocation(ServerWorld world, Vector3i position) {
         if (world.highestYAt(position.x(), position.z()) >= position.y()) {
@@ -40,4 +45,9 @@ public Tristate isValidLocation(ServerWorld world, Vector3i position) {
         return Tristate.UNDEFINED;
     }
 
+    @Override
+    public Tristate isValidLocation(SafeLocationSearch search, int x, int y, int z) {
+        return search.highestYAt(x, z) >= y ? Tristate.FALSE : Tristate.UNDEFINED;
+    }
+
 }
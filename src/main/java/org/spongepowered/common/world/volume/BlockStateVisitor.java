@@ -0,0 +1,58 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.spongepowered.api.block.BlockState;
+
+/**
+ * Receives the blocks of a volume one position at a time, as an alternative
+ * to a {@link org.spongepowered.api.world.volume.stream.VolumeStream} when no
+ * per block {@link org.spongepowered.api.world.volume.stream.VolumeElement},
+ * position or supplier needs to be created.
+ *
+ * @see BlockVolumeCursor
+ */
+@FunctionalInterface
+public interface BlockStateVisitor {
+
+    void visit(int x, int y, int z, BlockState state);
+
+    /**
+     * Visits a box in which every position holds the same state, such as a
+     * chunk section filled with a single block. Visitors that only aggregate
+     * may override this to handle the whole box in one step.
+     */
+    default void visitUniform(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ,
+        final BlockState state
+    ) {
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    this.visit(x, y, z, state);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.common.world.volume.buffer.block.AbstractBlockBuffer;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Objects;
+
+/**
+ * Walks the blocks of a volume with a {@link BlockStateVisitor}. Worlds are
+ * read straight from the {@link PalettedContainer}s of their chunk sections,
+ * where a section holding a single state is handed over in one step.
+ */
+public final class BlockVolumeCursor {
+
+    /**
+     * Visits every block between {@code min} and {@code max}, inclusive.
+     * The order in which positions are visited is unspecified.
+     *
+     * @param volume The volume to read
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param options The options, only the loading style is used
+     * @param visitor The visitor
+     */
+    public static void visit(final BlockVolume volume, final Vector3i min, final Vector3i max, final StreamOptions options,
+        final BlockStateVisitor visitor
+    ) {
+        VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
+            Objects.requireNonNull(options, "options"));
+        Objects.requireNonNull(visitor, "visitor");
+        if (volume instanceof final LevelReader reader) {
+            BlockVolumeCursor.visit(reader, min, max, options.loadingStyle().generateArea(), visitor);
+        } else if (volume instanceof final AbstractBlockBuffer buffer) {
+            VolumeStreamUtils.validateStreamArgs(min, max, buffer.min(), buffer.max(), options);
+            buffer.visitBlockStates(min, max, visitor);
+        } else {
+            for (int x = min.x(); x <= max.x(); x++) {
+                for (int z = min.z(); z <= max.z(); z++) {
+                    for (int y = min.y(); y <= max.y(); y++) {
+                        visitor.visit(x, y, z, volume.block(x, y, z));
+                    }
+                }
+            }
+        }
+    }
+
+    public static void visit(final LevelReader reader, final Vector3i min, final Vector3i max, final boolean generate,
+        final BlockStateVisitor visitor
+    ) {
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final @Nullable ChunkAccess chunk = BlockVolumeCursor.chunk(reader, chunkX, chunkZ, generate);
+                if (chunk != null) {
+                    BlockVolumeCursor.visit(chunk, min, max, visitor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits the part of the given chunk between {@code min} and {@code max}.
+     * Positions outside of the chunk's height are skipped.
+     *
+     * @param chunk The chunk
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param visitor The visitor
+     */
+    public static void visit(final ChunkAccess chunk, final Vector3i min, final Vector3i max, final BlockStateVisitor visitor) {
+        final ChunkPos pos = chunk.getPos();
+        final int minX = Math.max(min.x(), pos.getMinBlockX());
+        final int maxX = Math.min(max.x(), pos.getMaxBlockX());
+        final int minZ = Math.max(min.z(), pos.getMinBlockZ());
+        final int maxZ = Math.min(max.z(), pos.getMaxBlockZ());
+        if (minX > maxX || minZ > maxZ) {
+            return;
+        }
+
+        final LevelChunkSection[] sections = chunk.getSections();
+        final int lowest = Math.max(chunk.getSectionIndex(Math.max(min.y(), chunk.getMinBuildHeight())), 0);
+        final int highest = Math.min(chunk.getSectionIndex(Math.min(max.y(), chunk.getMaxBuildHeight() - 1)), sections.length - 1);
+        for (int index = lowest; index <= highest; index++) {
+            final int sectionMinY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(index));
+            final int minY = Math.max(min.y(), sectionMinY);
+            final int maxY = Math.min(max.y(), sectionMinY + 15);
+            if (minY > maxY) {
+                continue;
+            }
+
+            BlockVolumeCursor.visitSection(sections[index].getStates(), minX, minY, minZ, maxX, maxY, maxZ, visitor);
+        }
+    }
+
+    /**
+     * Visits the given bounds of a single section's states. The bounds are
+     * world coordinates and must all lie within the one section.
+     */
+    static void visitSection(final PalettedContainer<BlockState> states, final int minX, final int minY, final int minZ,
+        final int maxX, final int maxY, final int maxZ, final BlockStateVisitor visitor
+    ) {
+        final BlockState first = states.get(0, 0, 0);
+        // Single valued palettes answer this by looking at their one entry
+        if (!states.maybeHas(state -> state != first)) {
+            visitor.visitUniform(minX, minY, minZ, maxX, maxY, maxZ, (org.spongepowered.api.block.BlockState) first);
+            return;
+        }
+        // Iterate in the container's own index order
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    visitor.visit(x, y, z, (org.spongepowered.api.block.BlockState) states.get(x & 15, y & 15, z & 15));
+                }
+            }
+        }
+    }
+
+    static @Nullable ChunkAccess chunk(final LevelReader reader, final int chunkX, final int chunkZ, final boolean generate) {
+        final @Nullable ChunkAccess chunk = reader.getChunk(chunkX, chunkZ, generate ? ChunkStatus.FULL : ChunkStatus.EMPTY, generate);
+        if (chunk instanceof final ImposterProtoChunk imposter) {
+            return imposter.getWrapped();
+        }
+        return chunk;
+    }
+
+    private BlockVolumeCursor() {
+    }
+}
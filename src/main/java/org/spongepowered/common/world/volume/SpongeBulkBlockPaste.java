@@ -0,0 +1,349 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.lighting.LightEngine;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.launch.Launch;
+import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Writes a large number of block states into a world section by section.
+ *
+ * <p>States are written straight into each {@link LevelChunkSection} with no
+ * neighbor updates, physics or per block tracking. Lighting is only queued for
+ * blocks whose light properties change, and clients receive a single
+ * {@link ClientboundSectionBlocksUpdatePacket} per affected section.</p>
+ *
+ * <p>When {@link ChangeBlockEvent.All} has listeners, one event covering every
+ * change is thrown before anything is written. Cancelling it discards the
+ * paste, invalidated transactions are skipped and custom replacements are
+ * honored.</p>
+ */
+public final class SpongeBulkBlockPaste {
+
+    private final ServerLevel level;
+    private final Long2ObjectLinkedOpenHashMap<SectionBatch> sections = new Long2ObjectLinkedOpenHashMap<>();
+    private @Nullable Supplier<? extends PhaseContext<@NonNull ?>> phase;
+
+    public SpongeBulkBlockPaste(final ServerLevel level) {
+        this.level = Objects.requireNonNull(level, "level");
+    }
+
+    /**
+     * Sets the phase entered while the event is thrown and sections are
+     * written, unless a volume stream is already being applied. Pastes spread
+     * over several ticks enter it again for each tick.
+     *
+     * @param phase Creates the phase context
+     * @return This paste, for chaining
+     */
+    public SpongeBulkBlockPaste phase(final Supplier<? extends PhaseContext<@NonNull ?>> phase) {
+        this.phase = Objects.requireNonNull(phase, "phase");
+        return this;
+    }
+
+    public void set(final int x, final int y, final int z, final BlockState state) {
+        if (this.level.isOutsideBuildHeight(y)) {
+            return;
+        }
+        final long key = SectionPos.asLong(x >> 4, y >> 4, z >> 4);
+        SectionBatch batch = this.sections.get(key);
+        if (batch == null) {
+            batch = new SectionBatch(x >> 4, y >> 4, z >> 4);
+            this.sections.put(key, batch);
+        }
+        batch.set(x & 15, y & 15, z & 15, Objects.requireNonNull(state, "state"));
+    }
+
+    /**
+     * Applies every queued change immediately.
+     *
+     * @return Whether the changes were applied, false if the event was cancelled
+     */
+    public boolean apply() {
+        try (final @Nullable PhaseContext<@NonNull ?> context = this.enterPhase()) {
+            if (!this.throwEvent()) {
+                return false;
+            }
+            for (final SectionBatch batch : this.sections.values()) {
+                this.applySection(batch);
+            }
+            this.sections.clear();
+            return true;
+        }
+    }
+
+    /**
+     * Applies the queued changes over as many ticks as needed, spending at
+     * most roughly {@code tickBudget} of each tick on writing sections. The
+     * event, if any, is thrown before the first section is written.
+     *
+     * @param tickBudget The time to spend each tick
+     * @return A future completed with whether the changes were applied
+     */
+    public CompletableFuture<Boolean> apply(final Duration tickBudget) {
+        final long budget = Objects.requireNonNull(tickBudget, "tickBudget").toNanos();
+        try (final @Nullable PhaseContext<@NonNull ?> context = this.enterPhase()) {
+            if (!this.throwEvent()) {
+                return CompletableFuture.completedFuture(false);
+            }
+        }
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        final ObjectIterator<SectionBatch> remaining = this.sections.values().iterator();
+        Sponge.server().scheduler().submit(Task.builder()
+            .interval(Ticks.single())
+            .execute(task -> {
+                try (final @Nullable PhaseContext<@NonNull ?> context = this.enterPhase()) {
+                    final long deadline = System.nanoTime() + budget;
+                    // Always make progress, even with a budget smaller than a single section
+                    do {
+                        if (!remaining.hasNext()) {
+                            task.cancel();
+                            this.sections.clear();
+                            future.complete(true);
+                            return;
+                        }
+                        this.applySection(remaining.next());
+                    } while (System.nanoTime() < deadline);
+                } catch (final Throwable t) {
+                    task.cancel();
+                    future.completeExceptionally(t);
+                }
+            })
+            .plugin(Launch.instance().commonPlugin())
+            .build(), "Sponge Bulk Block Paste");
+        return future;
+    }
+
+    private @Nullable PhaseContext<@NonNull ?> enterPhase() {
+        if (this.phase == null || PhaseTracker.getInstance().getPhaseContext().isApplyingStreams()) {
+            return null;
+        }
+        final PhaseContext<@NonNull ?> context = this.phase.get();
+        context.buildAndSwitch();
+        return context;
+    }
+
+    private boolean throwEvent() {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_ALL) {
+            return true;
+        }
+        final ImmutableList.Builder<BlockTransaction> transactions = ImmutableList.builder();
+        for (final SectionBatch batch : this.sections.values()) {
+            for (int index = 0; index < SectionBatch.SIZE; index++) {
+                final @Nullable BlockState state = batch.states[index];
+                if (state == null) {
+                    continue;
+                }
+                final Vector3i position = batch.position(index);
+                final BlockState original = this.level.getBlockState(new BlockPos(position.x(), position.y(), position.z()));
+                if (original == state) {
+                    continue;
+                }
+                transactions.add(new BlockTransaction(
+                    this.snapshot(position, original),
+                    this.snapshot(position, state),
+                    ImmutableList.of(),
+                    SpongeBulkBlockPaste.operation(original, state).toOperation()
+                ));
+            }
+        }
+        final ImmutableList<BlockTransaction> built = transactions.build();
+        if (built.isEmpty()) {
+            return true;
+        }
+        final ChangeBlockEvent.All event = SpongeEventFactory.createChangeBlockEventAll(PhaseTracker.getCauseStackManager().currentCause(),
+            built, (ServerWorld) this.level);
+        if (SpongeCommon.post(event)) {
+            return false;
+        }
+        for (final BlockTransaction transaction : event.transactions()) {
+            final Vector3i position = transaction.original().position();
+            final SectionBatch batch = this.sections.get(SectionPos.asLong(position.x() >> 4, position.y() >> 4, position.z() >> 4));
+            final int index = SectionBatch.index(position.x() & 15, position.y() & 15, position.z() & 15);
+            batch.states[index] = transaction.isValid() ? (BlockState) transaction.finalReplacement().state() : null;
+        }
+        return true;
+    }
+
+    private SpongeBlockSnapshot snapshot(final Vector3i position, final BlockState state) {
+        return SpongeBlockSnapshot.BuilderImpl.pooled()
+            .world(this.level)
+            .position(position)
+            .blockState(state)
+            .build();
+    }
+
+    private static BlockChange operation(final BlockState original, final BlockState state) {
+        if (state.isAir()) {
+            return BlockChange.BREAK;
+        }
+        return original.getBlock() == state.getBlock() ? BlockChange.MODIFY : BlockChange.PLACE;
+    }
+
+    private void applySection(final SectionBatch batch) {
+        final LevelChunk chunk = this.level.getChunk(batch.x, batch.z);
+        final LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(batch.y));
+        final LevelLightEngine lightEngine = this.level.getChunkSource().getLightEngine();
+        final boolean wasEmpty = section.hasOnlyAir();
+        final ShortSet changed = new ShortOpenHashSet();
+        final List<BlockEntity> blockEntities = new ArrayList<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        for (int index = 0; index < SectionBatch.SIZE; index++) {
+            final @Nullable BlockState state = batch.states[index];
+            if (state == null) {
+                continue;
+            }
+            final int localX = index & 15;
+            final int localZ = (index >> 4) & 15;
+            final int localY = index >> 8;
+            final BlockState original = section.setBlockState(localX, localY, localZ, state);
+            if (original == state) {
+                continue;
+            }
+            pos.set(SectionPos.sectionToBlockCoord(batch.x, localX), SectionPos.sectionToBlockCoord(batch.y, localY),
+                SectionPos.sectionToBlockCoord(batch.z, localZ));
+            final BlockPos immutable = pos.immutable();
+
+            if (original.hasBlockEntity() && !state.is(original.getBlock())) {
+                chunk.removeBlockEntity(immutable);
+            }
+            for (final Map.Entry<Heightmap.Types, Heightmap> heightmap : chunk.getHeightmaps()) {
+                heightmap.getValue().update(localX, immutable.getY(), localZ, state);
+            }
+            if (LightEngine.hasDifferentLightProperties(chunk, immutable, original, state)) {
+                lightEngine.checkBlock(immutable);
+            }
+            this.level.onBlockStateChange(immutable, original, state);
+            if (state.hasBlockEntity()) {
+                final @Nullable BlockEntity blockEntity = chunk.getBlockEntity(immutable, LevelChunk.EntityCreationType.IMMEDIATE);
+                if (blockEntity != null) {
+                    blockEntities.add(blockEntity);
+                }
+            }
+            changed.add(SectionPos.sectionRelativePos(immutable));
+        }
+
+        if (changed.isEmpty()) {
+            return;
+        }
+        final SectionPos sectionPos = SectionPos.of(batch.x, batch.y, batch.z);
+        if (wasEmpty != section.hasOnlyAir()) {
+            lightEngine.updateSectionStatus(sectionPos, section.hasOnlyAir());
+        }
+        chunk.setUnsaved(true);
+
+        final List<ServerPlayer> players = this.level.getChunkSource().chunkMap.getPlayers(chunk.getPos(), false);
+        if (players.isEmpty()) {
+            return;
+        }
+        final ClientboundSectionBlocksUpdatePacket packet = new ClientboundSectionBlocksUpdatePacket(sectionPos, changed, section);
+        final List<Packet<ClientGamePacketListener>> blockEntityPackets = new ArrayList<>(blockEntities.size());
+        for (final BlockEntity blockEntity : blockEntities) {
+            final @Nullable Packet<ClientGamePacketListener> update = blockEntity.getUpdatePacket();
+            if (update != null) {
+                blockEntityPackets.add(update);
+            }
+        }
+        for (final ServerPlayer player : players) {
+            player.connection.send(packet);
+            blockEntityPackets.forEach(player.connection::send);
+        }
+    }
+
+    static final class SectionBatch {
+
+        static final int SIZE = 16 * 16 * 16;
+
+        final int x;
+        final int y;
+        final int z;
+        final @Nullable BlockState[] states = new BlockState[SectionBatch.SIZE];
+
+        SectionBatch(final int x, final int y, final int z) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+        }
+
+        static int index(final int localX, final int localY, final int localZ) {
+            return localY << 8 | localZ << 4 | localX;
+        }
+
+        void set(final int localX, final int localY, final int localZ, final BlockState state) {
+            this.states[SectionBatch.index(localX, localY, localZ)] = state;
+        }
+
+        Vector3i position(final int index) {
+            return new Vector3i(
+                SectionPos.sectionToBlockCoord(this.x, index & 15),
+                SectionPos.sectionToBlockCoord(this.y, index >> 8),
+                SectionPos.sectionToBlockCoord(this.z, (index >> 4) & 15)
+            );
+        }
+    }
+}
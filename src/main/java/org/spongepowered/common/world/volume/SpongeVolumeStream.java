@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.world.volume;
 
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.EventContextKeys;
@@ -40,9 +42,12 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.math.vector.Vector3i;
 
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -209,15 +214,13 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
         final PhaseTracker instance = PhaseTracker.getInstance();
         try (final @Nullable PhaseContext<@NonNull ?> context = instance.getPhaseContext().isApplyingStreams()
             ? null
-            : PluginPhase.State.VOLUME_STREAM_APPLICATION
-                .createPhaseContext(instance)
-                .setVolumeStream(this)
-                .spawnType(() -> PhaseTracker.getCauseStackManager().context(EventContextKeys.SPAWN_TYPE).orElse(null))
+            : this.createApplicationPhase()
         ) {
             if (context != null) {
                 context.buildAndSwitch();
             }
-            this.stream.forEach(element -> {
+            // Worlds may only be written to from the thread applying the stream
+            this.stream.sequential().forEach(element -> {
                 final W targetVolume = collector.target().get();
                 final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
                     collector.target(),
@@ -230,6 +233,48 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
         }
     }
 
+    private PhaseContext<@NonNull ?> createApplicationPhase() {
+        return PluginPhase.State.VOLUME_STREAM_APPLICATION
+            .createPhaseContext(PhaseTracker.getInstance())
+            .setVolumeStream(this)
+            .spawnType(() -> PhaseTracker.getCauseStackManager().context(EventContextKeys.SPAWN_TYPE).orElse(null));
+    }
+
+    /**
+     * Applies this stream of block states to a world through a
+     * {@link SpongeBulkBlockPaste}, instead of setting each block through the
+     * collector's applicator. Only the collector's target and position
+     * transform are used. The paste is tracked in the same phase as
+     * {@link #apply(VolumeCollector)}, which targets other than a server
+     * world fall back to.
+     *
+     * @param collector The collector
+     * @param tickBudget The time to spend each tick, or null to apply everything at once
+     * @return A future completed with whether the changes were applied
+     */
+    public <W extends MutableVolume> CompletableFuture<Boolean> applyInBulk(final VolumeCollector<W, T, ?> collector,
+        final @Nullable Duration tickBudget
+    ) {
+        if (!(collector.target().get() instanceof final ServerLevel level)) {
+            this.apply(collector);
+            return CompletableFuture.completedFuture(true);
+        }
+        final SpongeBulkBlockPaste paste = new SpongeBulkBlockPaste(level).phase(this::createApplicationPhase);
+        this.stream.sequential().forEach(element -> {
+            final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                collector.target(),
+                element::type,
+                element.position()
+            ));
+            if (!(transformed.type() instanceof final BlockState state)) {
+                throw new IllegalArgumentException("Only block states can be applied in bulk, got: " + transformed.type());
+            }
+            final Vector3i position = transformed.position().toInt();
+            paste.set(position.x(), position.y(), position.z(), state);
+        });
+        return tickBudget == null ? CompletableFuture.completedFuture(paste.apply()) : paste.apply(tickBudget);
+    }
+
     @Override
     public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T, R> collector, final Predicate<R> predicate) {
         boolean doWork = true;
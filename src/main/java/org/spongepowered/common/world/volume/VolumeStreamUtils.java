@@ -70,12 +70,15 @@
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
 import org.spongepowered.common.world.volume.buffer.blockentity.ObjectArrayMutableBlockEntityBuffer;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -432,7 +435,13 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
 
+        if (SpongeStreamOptions.parallel(options)) {
+            return VolumeStreamUtils.generateSnapshotBlockStream(reader, min, max, options.loadingStyle().generateArea());
+        }
         final boolean shouldCarbonCopy = options.carbonCopy();
+        if (!shouldCarbonCopy && !options.loadingStyle().immediateLoading()) {
+            return VolumeStreamUtils.generateLazyBlockStream(reader, min, max, options.loadingStyle().generateArea());
+        }
         final Vector3i size = max.sub(min).add(1, 1 ,1);
         final @MonotonicNonNull ArrayMutableBlockBuffer backingVolume;
         if (shouldCarbonCopy) {
@@ -459,6 +468,89 @@ public static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.
         );
     }
 
+    /**
+     * Reads each chunk through a {@link BlockVolumeCursor} as the stream reaches it,
+     * which avoids the intermediate positions, tuples and key sets of
+     * {@link #generateStream} when nothing needs to be copied or loaded up front.
+     */
+    @SuppressWarnings("unchecked")
+    private static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.BlockState> generateLazyBlockStream(
+        final LevelReader reader, final Vector3i min, final Vector3i max, final boolean generate
+    ) {
+        final Supplier<W> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((W) reader, "World");
+        final Stream<VolumeElement<W, org.spongepowered.api.block.BlockState>> elements = IntStream.rangeClosed(min.x() >> 4, max.x() >> 4)
+            .mapToObj(x -> IntStream.rangeClosed(min.z() >> 4, max.z() >> 4)
+                .mapToObj(z -> BlockVolumeCursor.chunk((LevelReader) worldSupplier.get(), x, z, generate)))
+            .flatMap(Function.identity())
+            .filter(Objects::nonNull)
+            .flatMap(chunk -> {
+                final List<VolumeElement<W, org.spongepowered.api.block.BlockState>> chunkElements = new ArrayList<>();
+                BlockVolumeCursor.visit(chunk, min, max, (x, y, z, state) ->
+                    chunkElements.add(VolumeElement.of(worldSupplier, () -> state, new Vector3d(x, y, z))));
+                return chunkElements.stream();
+            });
+        return new SpongeVolumeStream<>(elements, worldSupplier);
+    }
+
+    /**
+     * Copies the sections covering the area on the calling thread, then
+     * returns a parallel stream over the copies, split per section.
+     * Later changes to the world are not seen by the stream, and reading
+     * the copies never touches the world from another thread.
+     */
+    @SuppressWarnings("unchecked")
+    private static <W extends Region<W>> VolumeStream<W, org.spongepowered.api.block.BlockState> generateSnapshotBlockStream(
+        final LevelReader reader, final Vector3i min, final Vector3i max, final boolean generate
+    ) {
+        final Supplier<W> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((W) reader, "World");
+        final List<SectionSnapshot> snapshots = new ArrayList<>();
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                final @Nullable ChunkAccess chunk = BlockVolumeCursor.chunk(reader, chunkX, chunkZ, generate);
+                if (chunk != null) {
+                    VolumeStreamUtils.snapshotSections(chunk, min, max, snapshots);
+                }
+            }
+        }
+        final Stream<VolumeElement<W, org.spongepowered.api.block.BlockState>> elements = snapshots.parallelStream()
+            .flatMap(snapshot -> {
+                final List<VolumeElement<W, org.spongepowered.api.block.BlockState>> sectionElements = new ArrayList<>();
+                BlockVolumeCursor.visitSection(snapshot.states(), snapshot.min().x(), snapshot.min().y(), snapshot.min().z(),
+                    snapshot.max().x(), snapshot.max().y(), snapshot.max().z(), (x, y, z, state) ->
+                        sectionElements.add(VolumeElement.of(worldSupplier, () -> state, new Vector3d(x, y, z))));
+                return sectionElements.stream();
+            });
+        return new SpongeVolumeStream<>(elements, worldSupplier);
+    }
+
+    private static void snapshotSections(final ChunkAccess chunk, final Vector3i min, final Vector3i max,
+        final List<SectionSnapshot> snapshots
+    ) {
+        final ChunkPos pos = chunk.getPos();
+        final int minX = Math.max(min.x(), pos.getMinBlockX());
+        final int maxX = Math.min(max.x(), pos.getMaxBlockX());
+        final int minZ = Math.max(min.z(), pos.getMinBlockZ());
+        final int maxZ = Math.min(max.z(), pos.getMaxBlockZ());
+        if (minX > maxX || minZ > maxZ) {
+            return;
+        }
+        final LevelChunkSection[] sections = chunk.getSections();
+        final int lowest = Math.max(chunk.getSectionIndex(Math.max(min.y(), chunk.getMinBuildHeight())), 0);
+        final int highest = Math.min(chunk.getSectionIndex(Math.min(max.y(), chunk.getMaxBuildHeight() - 1)), sections.length - 1);
+        for (int index = lowest; index <= highest; index++) {
+            final int sectionMinY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(index));
+            final int minY = Math.max(min.y(), sectionMinY);
+            final int maxY = Math.min(max.y(), sectionMinY + 15);
+            if (minY <= maxY) {
+                snapshots.add(new SectionSnapshot(sections[index].getStates().copy(),
+                    new Vector3i(minX, minY, minZ), new Vector3i(maxX, maxY, maxZ)));
+            }
+        }
+    }
+
+    private record SectionSnapshot(PalettedContainer<BlockState> states, Vector3i min, Vector3i max) {
+    }
+
     public static <R extends Region<R>> VolumeStream<R, BlockEntity> getBlockEntityStream(final LevelReader reader, final Vector3i min, final Vector3i max, final StreamOptions options) {
         VolumeStreamUtils.validateStreamArgs(Objects.requireNonNull(min, "min"), Objects.requireNonNull(max, "max"),
             Objects.requireNonNull(options, "options"));
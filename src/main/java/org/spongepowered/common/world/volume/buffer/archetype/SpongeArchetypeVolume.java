@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.world.volume.buffer.archetype;
 
+import net.minecraft.server.level.ServerLevel;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
@@ -52,6 +53,7 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.volume.SpongeBulkBlockPaste;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
@@ -231,6 +233,17 @@ public void addEntity(final EntityArchetypeEntry entry) {
         this.entities.addEntity(entry);
     }
 
+    /**
+     * Captures an entity without creating its archetype up front.
+     *
+     * @param entity The entity
+     * @param position The position within this volume
+     * @see ObjectArrayMutableEntityArchetypeBuffer#captureEntity
+     */
+    public void captureEntity(final net.minecraft.world.entity.Entity entity, final Vector3d position) {
+        this.entities.captureEntity(entity, position);
+    }
+
     @Override
     public Biome biome(final int x, final int y, final int z) {
         return this.biomes.biome(x, y, z);
@@ -264,6 +277,30 @@ public ArchetypeVolume transform(final Transformation transformation) {
     @Override
     public void applyToWorld(
         final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext
+    ) {
+        this.applyToWorld(target, placement, spawnContext, false);
+    }
+
+    /**
+     * Applies this volume to the given world like
+     * {@link #applyToWorld(ServerWorld, Vector3i, Supplier)}, but writes the
+     * blocks section by section through a {@link SpongeBulkBlockPaste}. This
+     * skips neighbor and physics updates and per-block tracking, firing a
+     * single {@link org.spongepowered.api.event.block.ChangeBlockEvent.All}
+     * for the whole paste instead.
+     *
+     * @param target The target world
+     * @param placement The position to place the volume at
+     * @param spawnContext The spawn type of created entities
+     */
+    public void applyToWorldInBulk(
+        final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext
+    ) {
+        this.applyToWorld(target, placement, spawnContext, true);
+    }
+
+    private void applyToWorld(
+        final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext, final boolean bulk
     ) {
         Objects.requireNonNull(target, "Target world cannot be null");
         Objects.requireNonNull(placement, "Target position cannot be null");
@@ -272,12 +309,21 @@ public void applyToWorld(
             .spawnType(spawnContext)
             .source(this)) {
             context.buildAndSwitch();
-            this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
-                .apply(VolumeCollectors.of(
-                    target,
-                    VolumePositionTranslators.relativeTo(placement),
-                    VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
-                ));
+            if (bulk) {
+                final SpongeBulkBlockPaste paste = new SpongeBulkBlockPaste((ServerLevel) target);
+                this.blocks.visitBlockStates(this.min(), this.max(), (x, y, z, state) ->
+                    paste.set(x + placement.x(), y + placement.y(), z + placement.z(), (net.minecraft.world.level.block.state.BlockState) state));
+                if (!paste.apply()) {
+                    return;
+                }
+            } else {
+                this.blockStateStream(this.min(), this.max(), StreamOptions.lazily())
+                    .apply(VolumeCollectors.of(
+                        target,
+                        VolumePositionTranslators.relativeTo(placement),
+                        VolumeApplicators.applyBlocks(BlockChangeFlags.DEFAULT_PLACEMENT)
+                    ));
+            }
 
             this.biomeStream(this.min(), this.max(), StreamOptions.lazily())
                 .apply(VolumeCollectors.of(
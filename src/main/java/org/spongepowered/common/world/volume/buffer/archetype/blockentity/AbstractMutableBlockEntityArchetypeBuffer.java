@@ -33,6 +33,7 @@
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
 import org.spongepowered.common.bridge.world.level.block.state.BlockStateBridge;
+import org.spongepowered.common.world.volume.BlockStateVisitor;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.block.AbstractBlockBuffer;
@@ -88,6 +89,11 @@ public BlockState block(final int x, final int y, final int z) {
         return this.blockBuffer.block(x, y, z);
     }
 
+    @Override
+    public void visitBlockStates(final Vector3i min, final Vector3i max, final BlockStateVisitor visitor) {
+        this.blockBuffer.visitBlockStates(min, max, visitor);
+    }
+
     @Override
     public FluidState fluid(final int x, final int y, final int z) {
         return this.blockBuffer.fluid(x, y, z);
@@ -24,53 +24,73 @@
  */
 package org.spongepowered.common.world.volume.buffer.archetype.entity;
 
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.Entity;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.entity.EntityArchetype;
-import org.spongepowered.api.util.Tuple;
+import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeVolume;
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.entity.SpongeEntityArchetype;
+import org.spongepowered.common.entity.SpongeEntityArchetypeBuilder;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+/**
+ * Stores entity archetypes column by column. Entities captured straight from
+ * a world only keep their type, position and saved data, the archetype
+ * objects themselves are created the first time they are asked for. Reading
+ * the buffer from several threads at once, as parallel streams do, is safe.
+ */
 public class ObjectArrayMutableEntityArchetypeBuffer extends AbstractVolumeBuffer implements EntityArchetypeVolume.Mutable {
 
-    private final ArrayList<Tuple<Vector3d, EntityArchetype>> entities;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private EntityType<?>[] types = new EntityType<?>[ObjectArrayMutableEntityArchetypeBuffer.INITIAL_CAPACITY];
+    private double[] positions = new double[ObjectArrayMutableEntityArchetypeBuffer.INITIAL_CAPACITY * 3];
+    private @Nullable CompoundTag[] data = new CompoundTag[ObjectArrayMutableEntityArchetypeBuffer.INITIAL_CAPACITY];
+    // Archetypes of captured entities report the world position the entity was captured at
+    private @Nullable Vector3d[] entityPositions = new Vector3d[ObjectArrayMutableEntityArchetypeBuffer.INITIAL_CAPACITY];
+    private AtomicReferenceArray<@Nullable EntityArchetype> archetypes = new AtomicReferenceArray<>(ObjectArrayMutableEntityArchetypeBuffer.INITIAL_CAPACITY);
+    private int size;
 
     public ObjectArrayMutableEntityArchetypeBuffer(final Vector3i start, final Vector3i size) {
         super(start, size);
-        this.entities = new ArrayList<>();
     }
 
     @Override
     public Collection<EntityArchetype> entityArchetypes() {
-        return this.entities.stream()
-            .map(Tuple::second)
+        return this.indices()
+            .mapToObj(this::archetype)
             .collect(Collectors.toList());
     }
 
     @Override
     public Collection<EntityArchetypeEntry> entityArchetypesByPosition() {
-        return this.entities.stream()
-            .map(tuple -> EntityArchetypeEntry.of(tuple.second(), tuple.first()))
+        return this.entitiesByPosition()
             .collect(Collectors.toList());
     }
 
     @Override
     public Collection<EntityArchetype> entityArchetypes(final Predicate<EntityArchetype> filter) {
-        return this.entities.stream()
-            .map(Tuple::second)
+        return this.indices()
+            .mapToObj(this::archetype)
             .filter(filter)
             .collect(Collectors.toList());
     }
@@ -80,35 +100,107 @@ public VolumeStream<EntityArchetypeVolume.Mutable, EntityArchetype> entityArchet
         final StreamOptions options
     ) {
         VolumeStreamUtils.validateStreamArgs(min, max, this.min(), this.max(), options);
-        final Stream<Tuple<Vector3d, EntityArchetype>> entryStream;
+        // Positions are checked on the columns, only archetypes inside the bounds are created
+        final int[] matching = this.indices()
+            .filter(index -> this.isWithin(index, min, max))
+            .toArray();
+        Stream<VolumeElement<EntityArchetypeVolume.Mutable, EntityArchetype>> archetypeStream = Arrays.stream(matching)
+            .mapToObj(index -> VolumeElement.of(this, this.archetype(index), this.position(index)));
         if (options.carbonCopy()) {
-            entryStream = new ArrayList<>(this.entities).stream();
-        } else {
-            entryStream = this.entities.stream();
+            archetypeStream = archetypeStream.collect(Collectors.toList()).stream();
         }
-        final Stream<VolumeElement<EntityArchetypeVolume.Mutable, EntityArchetype>> archetypeStream = entryStream
-            .filter(VolumeStreamUtils.entityArchetypePositionFilter(min, max))
-            .map(tuple -> VolumeElement.of(this, tuple.second(), tuple.first()));
         return new SpongeVolumeStream<>(archetypeStream, () -> this);
     }
 
     @Override
     public Stream<EntityArchetypeEntry> entitiesByPosition() {
-        return this.entities.stream()
-            .map(tuple -> EntityArchetypeEntry.of(tuple.second(), tuple.first()));
+        return this.indices()
+            .mapToObj(index -> EntityArchetypeEntry.of(this.archetype(index), this.position(index)));
     }
 
     @Override
     public void addEntity(final EntityArchetypeEntry entry) {
-        if (!this.contains(Objects.requireNonNull(entry, "EntityArchetype cannot be null").position().toInt())) {
+        final Vector3d position = Objects.requireNonNull(entry, "EntityArchetype cannot be null").position();
+        this.checkBounds(position);
+        final int index = this.append(entry.archetype().type(), position);
+        this.archetypes.set(index, entry.archetype());
+    }
+
+    /**
+     * Captures the given entity, which only saves its data. The archetype is
+     * created once it is first requested.
+     *
+     * @param entity The entity
+     * @param position The position to store the entity at
+     */
+    public void captureEntity(final Entity entity, final Vector3d position) {
+        this.checkBounds(position);
+        final int index = this.append((EntityType<?>) entity.getType(), position);
+        this.data[index] = SpongeEntityArchetypeBuilder.captureData(entity);
+        this.entityPositions[index] = new Vector3d(entity.getX(), entity.getY(), entity.getZ());
+    }
+
+    private IntStream indices() {
+        return IntStream.range(0, this.size);
+    }
+
+    private Vector3d position(final int index) {
+        return new Vector3d(this.positions[index * 3], this.positions[index * 3 + 1], this.positions[index * 3 + 2]);
+    }
+
+    private boolean isWithin(final int index, final Vector3i min, final Vector3i max) {
+        final int x = (int) Math.floor(this.positions[index * 3]);
+        final int y = (int) Math.floor(this.positions[index * 3 + 1]);
+        final int z = (int) Math.floor(this.positions[index * 3 + 2]);
+        return x >= min.x() && x <= max.x() && y >= min.y() && y <= max.y() && z >= min.z() && z <= max.z();
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityArchetype archetype(final int index) {
+        final @Nullable EntityArchetype archetype = this.archetypes.get(index);
+        if (archetype != null) {
+            return archetype;
+        }
+        // Threads racing here each build one, only the first is kept and published. The data stays
+        // in its column so a thread that lost the race can still read it.
+        final EntityArchetype created = SpongeEntityArchetype.of((EntityType<@NonNull ?>) this.types[index], this.data[index],
+            this.entityPositions[index]);
+        if (this.archetypes.compareAndSet(index, null, created)) {
+            return created;
+        }
+        return this.archetypes.get(index);
+    }
+
+    private void checkBounds(final Vector3d position) {
+        if (!this.contains(position.toInt())) {
             final String message = String.format(
                 "EntityArchetype position is out of bounds: Found %s but is outside bounds (%s, %s)",
-                entry.position(),
+                position,
                 this.min(),
                 this.max()
             );
             throw new IllegalArgumentException(message);
         }
-        this.entities.add(Tuple.of(entry.position(), entry.archetype()));
+    }
+
+    private int append(final EntityType<?> type, final Vector3d position) {
+        if (this.size == this.types.length) {
+            final int capacity = this.size * 2;
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.positions = Arrays.copyOf(this.positions, capacity * 3);
+            this.data = Arrays.copyOf(this.data, capacity);
+            this.entityPositions = Arrays.copyOf(this.entityPositions, capacity);
+            final AtomicReferenceArray<@Nullable EntityArchetype> archetypes = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < this.size; i++) {
+                archetypes.set(i, this.archetypes.get(i));
+            }
+            this.archetypes = archetypes;
+        }
+        final int index = this.size++;
+        this.types[index] = type;
+        this.positions[index * 3] = position.x();
+        this.positions[index * 3 + 1] = position.y();
+        this.positions[index * 3 + 2] = position.z();
+        return index;
     }
 }
@@ -28,9 +28,12 @@
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.common.world.volume.BlockStateVisitor;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.function.IntFunction;
+
 /**
  * Base class for block buffers.
  */
@@ -43,5 +46,39 @@ protected AbstractBlockBuffer(final Vector3i start, final Vector3i size) {
     @Override
     public abstract Palette<BlockState, BlockType> blockPalette();
 
+    /**
+     * Visits every block between {@code min} and {@code max}, inclusive, in
+     * the order of the backing data.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param visitor The visitor
+     */
+    public abstract void visitBlockStates(Vector3i min, Vector3i max, BlockStateVisitor visitor);
+
+    protected void visitBackingData(final BlockBackingData data, final int highestId, final IntFunction<BlockState> stateById,
+        final Vector3i min, final Vector3i max, final BlockStateVisitor visitor
+    ) {
+        // Palette lookups are resolved once per id rather than once per block
+        final BlockState[] states = new BlockState[highestId + 1];
+        for (int x = min.x(); x <= max.x(); x++) {
+            for (int z = min.z(); z <= max.z(); z++) {
+                int index = this.getIndex(x, min.y(), z);
+                for (int y = min.y(); y <= max.y(); y++) {
+                    final int id = data.get(index++);
+                    if (id >= states.length) {
+                        visitor.visit(x, y, z, stateById.apply(id));
+                        continue;
+                    }
+                    BlockState state = states[id];
+                    if (state == null) {
+                        state = stateById.apply(id);
+                        states[id] = state;
+                    }
+                    visitor.visit(x, y, z, state);
+                }
+            }
+        }
+    }
 
 }
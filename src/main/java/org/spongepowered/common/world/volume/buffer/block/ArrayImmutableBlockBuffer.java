@@ -35,6 +35,7 @@
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.world.volume.BlockStateVisitor;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.math.vector.Vector3d;
@@ -89,6 +90,12 @@ public BlockState block(final int x, final int y, final int z) {
         return this.palette.get(this.data.get(this.getIndex(x, y, z)), Sponge.game()).orElse(ArrayImmutableBlockBuffer.AIR);
     }
 
+    @Override
+    public void visitBlockStates(final Vector3i min, final Vector3i max, final BlockStateVisitor visitor) {
+        this.visitBackingData(this.data, this.palette.highestId(), id -> this.palette.get(id, Sponge.game()).orElse(ArrayImmutableBlockBuffer.AIR),
+            min, max, visitor);
+    }
+
     @Override
     public FluidState fluid(final int x, final int y, final int z) {
         return this.block(x, y, z).fluidState();
@@ -41,6 +41,7 @@
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
 import org.spongepowered.common.world.schematic.MutableBimapPalette;
+import org.spongepowered.common.world.volume.BlockStateVisitor;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.math.vector.Vector3d;
@@ -154,6 +155,12 @@ public BlockState block(final int x, final int y, final int z) {
                 .orElseGet(() -> this.defaultState.get(this.registries).defaultState());
     }
 
+    @Override
+    public void visitBlockStates(final Vector3i min, final Vector3i max, final BlockStateVisitor visitor) {
+        this.visitBackingData(this.data, this.palette.highestId(), id -> this.palette.get(id, this.registries)
+            .orElseGet(() -> this.defaultState.get(this.registries).defaultState()), min, max, visitor);
+    }
+
     @Override
     public FluidState fluid(final int x, final int y, final int z) {
         return this.block(x, y, z).fluidState();
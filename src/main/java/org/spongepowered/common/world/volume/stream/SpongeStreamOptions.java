@@ -33,12 +33,18 @@
 public class SpongeStreamOptions implements StreamOptions {
 
     private final boolean copies;
+    private final boolean parallel;
     private final LoadingStyle loadingStyle;
 
     SpongeStreamOptions(final SpongeStreamOptionsBuilder builder) {
         Objects.requireNonNull(builder, "Builder cannot be null!");
         this.loadingStyle = builder.loadingStyle;
         this.copies = builder.copies;
+        this.parallel = builder.parallel;
+    }
+
+    public static boolean parallel(final StreamOptions options) {
+        return options instanceof final SpongeStreamOptions spongeOptions && spongeOptions.parallel;
     }
 
     @Override
@@ -60,12 +66,12 @@ public boolean equals(final @Nullable Object o) {
             return false;
         }
         final SpongeStreamOptions that = (SpongeStreamOptions) o;
-        return this.copies == that.copies && this.loadingStyle == that.loadingStyle;
+        return this.copies == that.copies && this.parallel == that.parallel && this.loadingStyle == that.loadingStyle;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.copies, this.loadingStyle);
+        return Objects.hash(this.copies, this.parallel, this.loadingStyle);
     }
 
     @Override
@@ -76,6 +82,7 @@ public String toString() {
             "]"
         )
             .add("copies=" + this.copies)
+            .add("parallel=" + this.parallel)
             .add("loadingStyle=" + this.loadingStyle)
             .toString();
     }
@@ -31,6 +31,7 @@
 public class SpongeStreamOptionsBuilder implements StreamOptions.Builder {
 
     boolean copies = false;
+    boolean parallel = false;
     StreamOptions.LoadingStyle loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
 
     @Override
@@ -45,9 +46,24 @@ public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle st
         return this;
     }
 
+    /**
+     * Sets whether streams over worlds should read from a snapshot of the
+     * affected chunk sections, taken when the stream is created, and process
+     * it in parallel. The snapshot is already detached from the world, so
+     * carbon copying has no further effect in this mode.
+     *
+     * @param parallel Whether to snapshot and process in parallel
+     * @return This builder, for chaining
+     */
+    public StreamOptions.Builder setParallel(final boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
     @Override
     public StreamOptions.Builder reset() {
         this.copies = false;
+        this.parallel = false;
         this.loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
         return this;
     }
@@ -490,7 +490,8 @@ public int getOrCreateBlockDestructionId(BlockPos pos) {
 
     @Override
     public void sendMessage(final Identity identity, final Component message, final MessageType type) {
-        this.shadow$getPlayerList().broadcastSystemMessage(SpongeAdventure.asVanilla(message), false);
+        final net.minecraft.network.chat.Component vanilla = SpongeAdventure.asVanilla(message);
+        this.shadow$getPlayerList().broadcastSystemMessage(vanilla, SpongeAdventure.localizedPerRecipient(vanilla), false);
     }
 
     @Override
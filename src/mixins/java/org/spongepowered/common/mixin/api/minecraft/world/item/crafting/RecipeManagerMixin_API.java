@@ -61,7 +61,7 @@ public abstract class RecipeManagerMixin_API implements RecipeManager {
     @Shadow public abstract Optional<? extends net.minecraft.world.item.crafting.Recipe<?>> shadow$byKey(ResourceLocation recipeId);
     @Shadow protected abstract <C extends Container, T extends net.minecraft.world.item.crafting.Recipe<C>> Collection<RecipeHolder<T>> shadow$byType(net.minecraft.world.item.crafting.RecipeType<T> recipeTypeIn);
     @Shadow public abstract Collection<net.minecraft.world.item.crafting.Recipe<?>> shadow$getRecipes();
-    @Shadow public abstract <C extends Container, T extends net.minecraft.world.item.crafting.Recipe<C>> Optional<T> shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType<T> recipeTypeIn, C inventoryIn, net.minecraft.world.level.Level worldIn);
+    @Shadow public abstract <C extends Container, T extends net.minecraft.world.item.crafting.Recipe<C>> Optional<RecipeHolder<T>> shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType<T> recipeTypeIn, C inventoryIn, net.minecraft.world.level.Level worldIn);
 
     // @formatter:on
 
@@ -104,19 +104,19 @@ public Optional<Recipe> findMatchingRecipe(final Inventory inventory, final Serv
             return recipeFor.map(Recipe.class::cast);
         }
         if (inventory instanceof CampfireBlockEntity) {
-            return this.shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType.CAMPFIRE_COOKING, (Container) inventory, (net.minecraft.world.level.Level) world).map(Recipe.class::cast);
+            return this.shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType.CAMPFIRE_COOKING, (Container) inventory, (net.minecraft.world.level.Level) world).map(RecipeHolder::value).map(Recipe.class::cast);
         }
         if (inventory instanceof CraftingMenu) {
             final CraftingContainer craftingInventory = ((CraftingMenuAccessor) inventory).accessor$craftSlots();
-            return this.shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType.CRAFTING, craftingInventory, (net.minecraft.world.level.Level) world).map(Recipe.class::cast);
+            return this.shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType.CRAFTING, craftingInventory, (net.minecraft.world.level.Level) world).map(RecipeHolder::value).map(Recipe.class::cast);
         }
         if (inventory instanceof InventoryMenu) {
             final CraftingContainer craftingInventory = ((InventoryMenuAccessor) inventory).accessor$craftSlots();
-            return this.shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType.CRAFTING, craftingInventory, (net.minecraft.world.level.Level) world).map(Recipe.class::cast);
+            return this.shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType.CRAFTING, craftingInventory, (net.minecraft.world.level.Level) world).map(RecipeHolder::value).map(Recipe.class::cast);
         }
         if (inventory instanceof StonecutterMenu) {
             final Container stonecutterInventory = ((StonecutterMenu) inventory).container;
-            return this.shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType.STONECUTTING, stonecutterInventory, (net.minecraft.world.level.Level) world).map(Recipe.class::cast);
+            return this.shadow$getRecipeFor(net.minecraft.world.item.crafting.RecipeType.STONECUTTING, stonecutterInventory, (net.minecraft.world.level.Level) world).map(RecipeHolder::value).map(Recipe.class::cast);
         }
 
         return Optional.empty();
@@ -131,7 +131,8 @@ public <T extends Recipe> Optional<T> findMatchingRecipe(final RecipeType<T> typ
         if (!(inventory instanceof Container)) {
             return Optional.empty();
         }
-        return this.shadow$getRecipeFor((net.minecraft.world.item.crafting.RecipeType) type, (Container) inventory, (net.minecraft.world.level.Level) world);
+        return this.shadow$getRecipeFor((net.minecraft.world.item.crafting.RecipeType) type, (Container) inventory, (net.minecraft.world.level.Level) world)
+                .map(holder -> ((RecipeHolder) holder).value());
     }
 
     @Override
@@ -141,6 +142,7 @@ public <T extends CookingRecipe> Optional<T> findCookingRecipe(final RecipeType<
         Objects.requireNonNull(ingredient);
         final net.minecraft.world.SimpleContainer fakeFurnace = new net.minecraft.world.SimpleContainer(1);
         fakeFurnace.setItem(0, ItemStackUtil.fromSnapshotToNative(ingredient));
-        return this.shadow$getRecipeFor((net.minecraft.world.item.crafting.RecipeType) type, fakeFurnace, null);
+        return this.shadow$getRecipeFor((net.minecraft.world.item.crafting.RecipeType) type, fakeFurnace, null)
+                .map(holder -> ((RecipeHolder) holder).value());
     }
 }
@@ -433,14 +433,11 @@ public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i
                 VolumeApplicators.applyBiomes()
             ));
 
+        // Entities are captured in bulk, their archetypes are only created when first requested
+        final Vector3d offset = origin.toDouble();
         this.entityStream(min, max, StreamOptions.lazily())
             .filter((world, entity, x, y, z) -> ((EntityAccessor) entity.get()).invoker$getEncodeId() != null || entity.get().type() == SpongeEntityTypes.HUMAN)
-            .map((world, entity, x, y, z) -> entity.get().createArchetype())
-            .apply(VolumeCollectors.of(
-                volume,
-                VolumePositionTranslators.offset(origin),
-                VolumeApplicators.applyEntityArchetypes()
-            ));
+            .forEach((world, entity, x, y, z) -> volume.captureEntity((net.minecraft.world.entity.Entity) entity, new Vector3d(x, y, z).sub(offset)));
         return volume;
     }
 
@@ -86,6 +86,12 @@ public abstract class MapItemSavedDataMixin extends SavedData implements MapItem
         this.shadow$setColorsDirty(Constants.Map.MAP_MAX_INDEX, Constants.Map.MAP_MAX_INDEX);
     }
 
+    @Override
+    public void bridge$updateMapRegion(final int minX, final int minY, final int maxX, final int maxY) {
+        this.shadow$setColorsDirty(minX, minY);
+        this.shadow$setColorsDirty(maxX, maxY);
+    }
+
     @SuppressWarnings("SuspiciousMethodCalls")
     @Override
     public void bridge$setDecorations(final Set<org.spongepowered.api.map.decoration.MapDecoration> newDecorations) {
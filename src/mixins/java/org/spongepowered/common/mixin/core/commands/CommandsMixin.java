@@ -35,10 +35,16 @@
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.SharedSuggestionProvider;
 import net.minecraft.commands.synchronization.SuggestionProviders;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientboundCommandsPacket;
 import net.minecraft.server.commands.AdvancementCommands;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.spongepowered.api.command.CommandCause;
 import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -46,9 +52,12 @@
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.commands.CommandSourceStackBridge;
 import org.spongepowered.common.bridge.commands.CommandsBridge;
 import org.spongepowered.common.bridge.commands.arguments.CompletionsArgumentTypeBridge;
 import org.spongepowered.common.command.brigadier.dispatcher.DelegatingCommandDispatcher;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandDispatcher;
+import org.spongepowered.common.command.brigadier.dispatcher.SpongeCommandTreeCache;
 import org.spongepowered.common.command.brigadier.dispatcher.SpongeNodePermissionCache;
 import org.spongepowered.common.command.brigadier.tree.SpongeArgumentCommandNode;
 import org.spongepowered.common.command.brigadier.tree.SpongeNode;
@@ -110,6 +119,33 @@ public abstract class CommandsMixin implements CommandsBridge {
         this.impl$initFrame = null;
     }
 
+    /*
+     * Players that pass the same requirement checks get the same tree, so reuse a previously built packet when we can.
+     */
+    @Inject(method = "sendCommands", at = @At("HEAD"), cancellable = true)
+    private void impl$sendCachedCommandTree(final ServerPlayer player, final CallbackInfo ci) {
+        final SpongeCommandTreeCache cache = this.impl$commandManager.commandTreeCache();
+        final ClientboundCommandsPacket cached;
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(player);
+            frame.addContext(EventContextKeys.SUBJECT, (Subject) player);
+            cached = cache.find(((CommandSourceStackBridge) player.createCommandSourceStack()).bridge$withCurrentCause());
+        }
+        if (cached != null) {
+            player.connection.send(cached);
+            ci.cancel();
+            return;
+        }
+        cache.beginRecording();
+    }
+
+    @Redirect(method = "sendCommands", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/server/network/ServerGamePacketListenerImpl;send(Lnet/minecraft/network/protocol/Packet;)V"))
+    private void impl$cacheBuiltCommandTree(final ServerGamePacketListenerImpl connection, final Packet<?> packet) {
+        this.impl$commandManager.commandTreeCache().finishRecording((ClientboundCommandsPacket) packet);
+        connection.send(packet);
+    }
+
     /*
      * Hides nodes that we have marked as "hidden"
      */
@@ -201,6 +237,7 @@ public abstract class CommandsMixin implements CommandsBridge {
             final CommandSourceStack sourceButTyped,
             final Map<CommandNode<CommandSourceStack>, CommandNode<SharedSuggestionProvider>> commandNodeToSuggestionNode
     ) {
+        SpongeCommandTreeCache.markBrigadierTraversal();
         final ServerPlayer e = (ServerPlayer) sourceButTyped.getEntity();
         final Map<CommandNode<CommandSourceStack>, List<CommandNode<SharedSuggestionProvider>>> playerNodes = this.impl$playerNodeCache.get(e);
         final List<CommandNode<SharedSuggestionProvider>> existingNodes = playerNodes.get(commandNode);
@@ -232,8 +269,7 @@ public abstract class CommandsMixin implements CommandsBridge {
             return false;
         // If we have already processed this node and it appears in the suggestion node list, prevent a potentially costly
         // canUse check as we know we can already use it.
-        } else if (!commandNodeToSuggestionNode.containsKey(commandNode) && !SpongeNodePermissionCache.canUse(
-                rootCommandNode instanceof RootCommandNode, this.impl$commandManager.getDispatcher(), commandNode, sourceButTyped)) {
+        } else if (!commandNodeToSuggestionNode.containsKey(commandNode) && !this.impl$canUse(rootCommandNode instanceof RootCommandNode, commandNode, sourceButTyped)) {
             playerNodes.put(commandNode, Collections.emptyList());
             return false;
         }
@@ -297,6 +333,13 @@ public abstract class CommandsMixin implements CommandsBridge {
         return this.impl$commandManager;
     }
 
+    private boolean impl$canUse(final boolean isRoot, final CommandNode<CommandSourceStack> commandNode, final CommandSourceStack source) {
+        // Record the outcome, so the tree being built can be reused for other players that share it
+        final SpongeCommandDispatcher dispatcher = this.impl$commandManager.getDispatcher();
+        return SpongeCommandTreeCache.test(commandNode, isRoot, (CommandCause) source,
+                cause -> SpongeNodePermissionCache.canUse(isRoot, dispatcher, commandNode, (CommandSourceStack) cause));
+    }
+
     private Collection<CommandNode<CommandSourceStack>> impl$getChildrenFromNode(final CommandNode<CommandSourceStack> parentNode) {
         final Collection<CommandNode<CommandSourceStack>> nodes;
         if (parentNode instanceof SpongeNode) {
@@ -215,6 +215,8 @@ public String getServerModName() {
                 MinecraftServerMixin.LOGGER.error("Failed to unlock level {}", levelSave.getLevelId(), e);
             }
         }
+        // Instances are disposable, they are not kept for the next start
+        this.worldManager().disposeInstances();
     }
 
     /**
@@ -114,6 +114,7 @@
 import org.spongepowered.common.mixin.core.world.level.LevelMixin;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpongeTicks;
+import org.spongepowered.common.world.server.SpongeChunkLoader;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.List;
@@ -149,6 +150,7 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
     private Weather impl$prevWeather;
     private boolean impl$isManualSave = false;
     private long impl$preTickTime = 0L;
+    private final SpongeChunkLoader impl$chunkLoader = new SpongeChunkLoader((ServerLevel) (Object) this);
 
     @Inject(method = "<init>", at = @At("TAIL"))
     private void impl$cacheLevelSave(final MinecraftServer $$0, final Executor $$1, final LevelStorageSource.LevelStorageAccess $$2, final ServerLevelData $$3,
@@ -305,6 +307,11 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerLevel
         return this.impl$recentTickTimes;
     }
 
+    @Override
+    public SpongeChunkLoader bridge$chunkLoader() {
+        return this.impl$chunkLoader;
+    }
+
     @Redirect(method = "saveLevelData", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;getWorldData()Lnet/minecraft/world/level/storage/WorldData;"))
     private WorldData impl$usePerWorldLevelDataForDragonFight(final MinecraftServer server) {
         return (WorldData) this.shadow$getLevelData();
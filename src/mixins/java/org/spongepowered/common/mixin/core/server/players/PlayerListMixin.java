@@ -115,6 +115,7 @@
 import org.spongepowered.common.service.server.whitelist.SpongeUserWhiteList;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.NetworkUtil;
+import org.spongepowered.common.util.UserListUtil;
 import org.spongepowered.math.vector.Vector3d;
 
 import java.net.InetAddress;
@@ -577,6 +578,11 @@ public abstract class PlayerListMixin implements PlayerListBridge {
         ((SpongeServer) SpongeCommon.server()).userManager().saveDirtyUsers();
     }
 
+    @Inject(method = "saveAll()V", at = @At("RETURN"))
+    private void impl$savePendingUserListsOnSaveAll(final CallbackInfo ci) {
+        UserListUtil.savePending();
+    }
+
     @Inject(method = "broadcastSystemMessage(Lnet/minecraft/network/chat/Component;Ljava/util/function/Function;Z)V",
             at = @At("HEAD"), cancellable = true)
     private void impl$onBroadcastSystemMessage(final net.minecraft.network.chat.Component $$0,
@@ -24,19 +24,43 @@
  */
 package org.spongepowered.common.mixin.core.world.item.crafting;
 
+import com.google.common.collect.Multimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.DynamicOps;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.Container;
 import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.item.crafting.RecipeHolder;
 import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.item.recipe.SpongeRecipeIndex;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Mixin(RecipeManager.class)
 public abstract class RecipeManagerMixin {
+
+    // @formatter:off
+    @Shadow private Multimap<RecipeType<?>, RecipeHolder<?>> byType;
+    @Shadow private Map<ResourceLocation, RecipeHolder<?>> byName;
+    // @formatter:on
+
+    private @Nullable SpongeRecipeIndex impl$index;
+
 @Redirect(method = "fromJson", at = @At(value = "INVOKE", target = "Lcom/mojang/serialization/Codec;parse(Lcom/mojang/serialization/DynamicOps;Ljava/lang/Object;)Lcom/mojang/serialization/DataResult;"))
     private static <T> DataResult<Recipe<?>> impl$onParseRecipe(final Codec<Recipe<?>> instance, final DynamicOps<T> dynamicOps, final T element, final ResourceLocation $$0)
 {
@@ -53,4 +77,40 @@ public abstract class RecipeManagerMixin {
     return parsed;
 }
 
+    @Inject(method = {"apply(Ljava/util/Map;Lnet/minecraft/server/packs/resources/ResourceManager;Lnet/minecraft/util/profiling/ProfilerFiller;)V", "replaceRecipes"}, at = @At("RETURN"))
+    private void impl$invalidateIndex(final CallbackInfo ci) {
+        this.impl$index = null;
+    }
+
+    @Inject(method = "getRecipeFor(Lnet/minecraft/world/item/crafting/RecipeType;Lnet/minecraft/world/Container;Lnet/minecraft/world/level/Level;)Ljava/util/Optional;",
+        at = @At("HEAD"), cancellable = true)
+    private <C extends Container, T extends Recipe<C>> void impl$findIndexedRecipe(final RecipeType<T> type, final C container, final Level level,
+        final CallbackInfoReturnable<Optional<RecipeHolder<T>>> cir
+    ) {
+        cir.setReturnValue(this.impl$index().find(type, container, level, null));
+    }
+
+    @Inject(method = "getRecipeFor(Lnet/minecraft/world/item/crafting/RecipeType;Lnet/minecraft/world/Container;Lnet/minecraft/world/level/Level;Lnet/minecraft/resources/ResourceLocation;)Ljava/util/Optional;",
+        at = @At("HEAD"), cancellable = true)
+    private <C extends Container, T extends Recipe<C>> void impl$findIndexedRecipe(final RecipeType<T> type, final C container, final Level level,
+        final @Nullable ResourceLocation lastRecipe, final CallbackInfoReturnable<Optional<RecipeHolder<T>>> cir
+    ) {
+        cir.setReturnValue(this.impl$index().find(type, container, level, lastRecipe));
+    }
+
+    @Inject(method = "getRecipesFor", at = @At("HEAD"), cancellable = true)
+    private <C extends Container, T extends Recipe<C>> void impl$findIndexedRecipes(final RecipeType<T> type, final C container, final Level level,
+        final CallbackInfoReturnable<List<RecipeHolder<T>>> cir
+    ) {
+        final List<RecipeHolder<T>> recipes = this.impl$index().findAll(type, container, level);
+        recipes.sort(Comparator.comparing(holder -> holder.value().getResultItem(level.registryAccess()).getDescriptionId()));
+        cir.setReturnValue(recipes);
+    }
+
+    private SpongeRecipeIndex impl$index() {
+        if (this.impl$index == null) {
+            this.impl$index = new SpongeRecipeIndex(this.byType, this.byName);
+        }
+        return this.impl$index;
+    }
 }
@@ -286,7 +286,7 @@ public LevelChunkMixin(
         final UUID uuid = worldInfo.bridge$getUniqueIdForIndex(ownerIndex).orElse(null);
         if (uuid != null) {
             // Verify id is valid and not invalid
-            if (SpongeConfigs.getCommon().get().world.invalidLookupUuids.contains(uuid)) {
+            if (SpongeConfigs.getCommonSnapshot().invalidLookupUuids().contains(uuid)) {
                 if (key <= Short.MAX_VALUE) {
                     this.impl$trackedShortBlockPositions.remove((short) key);
                 }
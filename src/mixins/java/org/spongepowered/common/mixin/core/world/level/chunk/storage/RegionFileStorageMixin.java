@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.level.chunk.storage;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.longs.LongSets;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.StreamTagVisitor;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.storage.RegionFile;
+import net.minecraft.world.level.chunk.storage.RegionFileStorage;
+import net.minecraft.world.level.chunk.storage.RegionStorageInfo;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.accessor.world.level.chunk.storage.RegionFileStorageAccessor;
+import org.spongepowered.common.world.level.chunk.storage.SpongeRegionOverlays;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Mixin(RegionFileStorage.class)
+public abstract class RegionFileStorageMixin {
+
+    // @formatter:off
+    @Shadow @Final private Path folder;
+
+    @Shadow protected abstract RegionFile shadow$getRegionFile(ChunkPos pos) throws IOException;
+    // @formatter:on
+
+    private @Nullable RegionFileStorage impl$template;
+    private @Nullable Path impl$templateFolder;
+    // Chunks removed from the overlay must not be read from the template again
+    private final LongSet impl$removed = LongSets.synchronize(new LongOpenHashSet());
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    private void impl$openTemplate(final RegionStorageInfo info, final Path folder, final boolean sync, final CallbackInfo ci) {
+        final @Nullable Path templateFolder = SpongeRegionOverlays.templateFolder(folder);
+        if (templateFolder != null && Files.isDirectory(templateFolder)) {
+            this.impl$template = RegionFileStorageAccessor.invoker$new(info, templateFolder, false);
+            this.impl$templateFolder = templateFolder;
+        }
+    }
+
+    @Inject(method = "read", at = @At("HEAD"), cancellable = true)
+    private void impl$readFromTemplate(final ChunkPos pos, final CallbackInfoReturnable<@Nullable CompoundTag> cir) throws IOException {
+        if (this.impl$readsFromTemplate(pos)) {
+            // The template is read-only, opening a region file it does not have would create it
+            cir.setReturnValue(this.impl$templateHasRegion(pos) ? this.impl$template.read(pos) : null);
+        }
+    }
+
+    @Inject(method = "scanChunk", at = @At("HEAD"), cancellable = true)
+    private void impl$scanTemplate(final ChunkPos pos, final StreamTagVisitor visitor, final CallbackInfo ci) throws IOException {
+        if (this.impl$readsFromTemplate(pos)) {
+            if (this.impl$templateHasRegion(pos)) {
+                this.impl$template.scanChunk(pos, visitor);
+            }
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "write", at = @At("HEAD"), cancellable = true)
+    private void impl$trackRemovedChunks(final ChunkPos pos, final @Nullable CompoundTag tag, final CallbackInfo ci) {
+        if (this.impl$template == null) {
+            return;
+        }
+        if (tag != null) {
+            this.impl$removed.remove(pos.toLong());
+            return;
+        }
+        this.impl$removed.add(pos.toLong());
+        // Nothing to remove from the overlay, and writing would create an empty region file
+        if (Files.notExists(RegionFileStorageMixin.impl$regionFile(this.folder, pos))) {
+            ci.cancel();
+        }
+    }
+
+    @Inject(method = "close", at = @At("RETURN"))
+    private void impl$closeTemplate(final CallbackInfo ci) throws IOException {
+        if (this.impl$template != null) {
+            this.impl$template.close();
+        }
+    }
+
+    private boolean impl$readsFromTemplate(final ChunkPos pos) throws IOException {
+        if (this.impl$template == null || this.impl$removed.contains(pos.toLong())) {
+            return false;
+        }
+        // Checking the disk first avoids creating empty region files in the overlay just to read
+        return Files.notExists(RegionFileStorageMixin.impl$regionFile(this.folder, pos)) || !this.shadow$getRegionFile(pos).doesChunkExist(pos);
+    }
+
+    private boolean impl$templateHasRegion(final ChunkPos pos) {
+        return Files.exists(RegionFileStorageMixin.impl$regionFile(this.impl$templateFolder, pos));
+    }
+
+    private static Path impl$regionFile(final Path folder, final ChunkPos pos) {
+        return folder.resolve("r." + pos.getRegionX() + "." + pos.getRegionZ() + RegionFileStorage.ANVIL_EXTENSION);
+    }
+}
@@ -59,11 +59,13 @@
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
 import org.spongepowered.common.accessor.world.level.LevelSettingsAccessor;
+import org.spongepowered.common.applaunch.config.core.ConfigSnapshot;
 import org.spongepowered.common.bridge.ResourceKeyBridge;
 import org.spongepowered.common.bridge.world.level.dimension.LevelStemBridge;
 import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
 import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.inheritable.WorldConfigSnapshot;
 import org.spongepowered.common.data.fixer.LegacyUUIDCodec;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MapUtil;
@@ -96,6 +98,7 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
     private UUID impl$uniqueId = UUID.randomUUID();
     private Boolean impl$pvp;
     private InheritableConfigHandle<WorldConfig> impl$configAdapter;
+    private ConfigSnapshot<WorldConfig, WorldConfigSnapshot> impl$configSnapshot;
 
     private final BiMap<Integer, UUID> impl$playerUniqueIdMap = HashBiMap.create();
 
@@ -158,6 +161,11 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
         return this.impl$uniqueId;
     }
 
+    @Override
+    public void bridge$setUniqueId(final UUID uniqueId) {
+        this.impl$uniqueId = uniqueId;
+    }
+
     @Override
     public boolean bridge$customDifficulty() {
         return this.impl$customDifficulty;
@@ -261,6 +269,12 @@ public abstract class PrimaryLevelDataMixin implements WorldData, PrimaryLevelDa
     @Override
     public void bridge$configAdapter(final InheritableConfigHandle<WorldConfig> adapter) {
         this.impl$configAdapter = adapter;
+        this.impl$configSnapshot = adapter.snapshot(WorldConfigSnapshot::new);
+    }
+
+    @Override
+    public WorldConfigSnapshot bridge$configSnapshot() {
+        return this.impl$configSnapshot.get();
     }
 
     @Override
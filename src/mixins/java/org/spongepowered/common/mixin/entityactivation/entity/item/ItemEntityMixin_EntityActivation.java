@@ -46,7 +46,7 @@ public abstract class ItemEntityMixin_EntityActivation extends EntityMixin_Entit
             --this.pickupDelay;
         }
 
-        if (!this.level.isClientSide() && this.age >= SpongeGameConfigs.getForWorld(this.level).get().entity.item.despawnRate) {
+        if (!this.level.isClientSide() && this.age >= SpongeGameConfigs.getSnapshotForWorld(this.level).itemDespawnRate) {
             this.shadow$remove(Entity.RemovalReason.DISCARDED);
         }
     }
@@ -26,13 +26,16 @@
 
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Slice;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.mixin.core.world.level.LevelMixin;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationEngine;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
 
 import java.util.function.BooleanSupplier;
@@ -40,13 +43,21 @@
 @Mixin(value = ServerLevel.class, priority = 1005)
 public abstract class ServerLevelMixin_EntityActivation extends LevelMixin {
 
+    private @MonotonicNonNull EntityActivationEngine activation$engine;
+
     @Inject(method = "tick",
         at = @At(value = "INVOKE", target = "Lnet/minecraft/util/profiling/ProfilerFiller;push(Ljava/lang/String;)V"),
         slice = @Slice(
                 from = @At(value = "INVOKE", target = "Lnet/minecraft/server/level/ServerLevel;runBlockEvents()V"),
                 to = @At(value = "CONSTANT", args = "stringValue=entities", shift = At.Shift.AFTER)))
     protected void activation$entityActivationCheck(final BooleanSupplier var1, final CallbackInfo ci) {
-        EntityActivationRange.activateEntities(((ServerLevel) (Object) this));
+        if (((LevelBridge) this).bridge$isFake()) {
+            return;
+        }
+        if (this.activation$engine == null) {
+            this.activation$engine = new EntityActivationEngine((ServerLevel) (Object) this);
+        }
+        this.activation$engine.activateEntities();
     }
 
     @Inject(method = "tickNonPassenger", at = @At("HEAD"), cancellable = true)
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entitycollision.world.entity;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
+import org.spongepowered.common.mixin.plugin.entitycollision.EntityCollisions;
+
+@Mixin(Entity.class)
+public abstract class EntityMixin_Collisions implements CollisionCapabilityBridge {
+
+    // @formatter:off
+    @Shadow public abstract EntityType<?> shadow$getType();
+    // @formatter:on
+
+    private @MonotonicNonNull ResourceKey collision$key;
+    private int collision$maxCollisions = -1;
+    private boolean collision$refreshCache = true;
+
+    @Inject(method = "setLevel", at = @At("RETURN"))
+    private void collision$refreshOnLevelChange(final Level level, final CallbackInfo ci) {
+        this.collision$refreshCache = true;
+    }
+
+    @Override
+    public ResourceKey collision$getKey() {
+        if (this.collision$key == null) {
+            this.collision$key = (ResourceKey) (Object) EntityType.getKey(this.shadow$getType());
+        }
+        return this.collision$key;
+    }
+
+    @Override
+    public int collision$getMaxCollisions() {
+        return this.collision$maxCollisions;
+    }
+
+    @Override
+    public void collision$setMaxCollisions(final int max) {
+        this.collision$maxCollisions = max;
+    }
+
+    @Override
+    public void collision$initializeCollisionState(final Level worldIn) {
+        EntityCollisions.initializeCollisionState(this, worldIn, false);
+    }
+
+    @Override
+    public void collision$requiresCollisionsCacheRefresh(final boolean flag) {
+        this.collision$refreshCache = flag;
+    }
+
+    @Override
+    public boolean collision$requiresCollisionsCacheRefresh() {
+        return this.collision$refreshCache;
+    }
+
+    @Override
+    public boolean collision$isRunningCollideWithNearby() {
+        return false;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.entitycollision.world.entity;
+
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.mixin.plugin.entitycollision.EntityCollisions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+@Mixin(LivingEntity.class)
+public abstract class LivingEntityMixin_Collisions extends EntityMixin_Collisions {
+
+    // @formatter:off
+    @Shadow protected abstract void shadow$doPush(Entity entity);
+    // @formatter:on
+
+    private int collision$pushBudget = -1;
+    private boolean collision$runningPush;
+
+    @Redirect(method = "pushEntities",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/Level;getEntities(Lnet/minecraft/world/entity/Entity;Lnet/minecraft/world/phys/AABB;Ljava/util/function/Predicate;)Ljava/util/List;"))
+    private List<Entity> collision$limitPushCandidates(final Level level, final Entity except, final AABB bounds,
+        final Predicate<? super Entity> predicate
+    ) {
+        this.collision$runningPush = true;
+        final int max = EntityCollisions.maxCollisions(this, level);
+        this.collision$pushBudget = max;
+        if (max < 0) {
+            return level.getEntities(except, bounds, predicate);
+        }
+        // Stop the query early instead of collecting every entity in a crowded area. One extra
+        // candidate reveals whether pushes will be skipped, and cramming still needs to see its threshold.
+        final int cramming = level.getGameRules().getInt(GameRules.RULE_MAX_ENTITY_CRAMMING);
+        final List<Entity> candidates = new ArrayList<>();
+        level.getEntities(EntityTypeTest.forClass(Entity.class), bounds, entity -> entity != except && predicate.test(entity),
+            candidates, Math.max(max + 1, cramming));
+        return candidates;
+    }
+
+    @Redirect(method = "pushEntities",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;doPush(Lnet/minecraft/world/entity/Entity;)V"))
+    private void collision$limitPushes(final LivingEntity self, final Entity entity) {
+        if (this.collision$pushBudget == 0) {
+            EntityCollisions.recordSkipped(self.level(), 1);
+            return;
+        }
+        if (this.collision$pushBudget > 0) {
+            this.collision$pushBudget--;
+        }
+        this.shadow$doPush(entity);
+    }
+
+    @Inject(method = "pushEntities", at = @At("RETURN"))
+    private void collision$resetPushState(final CallbackInfo ci) {
+        this.collision$runningPush = false;
+        this.collision$pushBudget = -1;
+    }
+
+    @Override
+    public boolean collision$isRunningCollideWithNearby() {
+        return this.collision$runningPush;
+    }
+}
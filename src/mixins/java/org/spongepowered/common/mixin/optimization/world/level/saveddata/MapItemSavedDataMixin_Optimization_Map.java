@@ -0,0 +1,164 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.optimization.world.level.saveddata;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.decoration.ItemFrame;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.saveddata.maps.MapDecoration;
+import net.minecraft.world.level.saveddata.maps.MapDecorationType;
+import net.minecraft.world.level.saveddata.maps.MapDecorationTypes;
+import net.minecraft.world.level.saveddata.maps.MapDecorations;
+import net.minecraft.world.level.saveddata.maps.MapFrame;
+import net.minecraft.world.level.saveddata.maps.MapItemSavedData;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.common.bridge.optimization.OptimizedMapDataBridge;
+import org.spongepowered.common.bridge.optimization.OptimizedMapInfoBridge;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+@Mixin(MapItemSavedData.class)
+public abstract class MapItemSavedDataMixin_Optimization_Map implements OptimizedMapDataBridge {
+
+    // @formatter:off
+    @Shadow @Final public ResourceKey<Level> dimension;
+    @Shadow @Final private boolean trackingPosition;
+    @Shadow @Final private List<MapItemSavedData.HoldingPlayer> carriedBy;
+    @Shadow @Final private Map<Player, MapItemSavedData.HoldingPlayer> carriedByPlayers;
+    @Shadow @Final private Map<String, MapDecoration> decorations;
+    @Shadow @Final private Map<String, MapFrame> frameMarkers;
+
+    @Shadow public abstract MapItemSavedData.HoldingPlayer shadow$getHoldingPlayer(Player player);
+    @Shadow protected abstract void shadow$addDecoration(Holder<MapDecorationType> type, @Nullable LevelAccessor level, String id,
+            double x, double z, double rotation, @Nullable Component name);
+    @Shadow protected abstract void shadow$removeDecoration(String id);
+    // @formatter:on
+
+    private int mapOptimization$lastTick = -1;
+
+    /**
+     * Settles the holders reported during the previous tick. Players that were
+     * seen carrying this map get their marker moved, everyone else loses it, and
+     * holders are only dropped once they saw the map neither in their inventory
+     * nor in an item frame, as vanilla does.
+     */
+    @Override
+    public void mapOptimizationBridge$tickMap() {
+        final Iterator<MapItemSavedData.HoldingPlayer> iterator = this.carriedBy.iterator();
+        while (iterator.hasNext()) {
+            final MapItemSavedData.HoldingPlayer holder = iterator.next();
+            final OptimizedMapInfoBridge info = (OptimizedMapInfoBridge) holder;
+            final String name = holder.player.getName().getString();
+            if (holder.player.isRemoved() || (!info.mapOptimizationBridge$isValid() && !info.mapOptimizationBridge$isFramed())) {
+                iterator.remove();
+                this.carriedByPlayers.remove(holder.player);
+                this.mapOptimization$removeDecoration(name);
+                continue;
+            }
+            if (info.mapOptimizationBridge$isValid()) {
+                if (this.trackingPosition && holder.player.level().dimension() == this.dimension) {
+                    this.shadow$addDecoration(MapDecorationTypes.PLAYER, holder.player.level(), name, holder.player.getX(),
+                        holder.player.getZ(), holder.player.getYRot(), null);
+                }
+                info.mapOptimizationBridge$setValid(false);
+            } else {
+                this.mapOptimization$removeDecoration(name);
+            }
+            info.mapOptimizationBridge$setFramed(false);
+        }
+    }
+
+    @Override
+    public void mapOptimizationBridge$updatePlayer(final Player player, final ItemStack mapStack) {
+        final int tick = player.getServer().getTickCount();
+        if (this.mapOptimization$lastTick != tick) {
+            this.mapOptimization$lastTick = tick;
+            this.mapOptimizationBridge$tickMap();
+        }
+
+        final MapItemSavedData.HoldingPlayer holder = this.shadow$getHoldingPlayer(player);
+        if (mapStack.isFramed()) {
+            // Keeps the holder, and with it the map updates, without giving the player a marker
+            ((OptimizedMapInfoBridge) holder).mapOptimizationBridge$setFramed(true);
+        } else {
+            ((OptimizedMapInfoBridge) holder).mapOptimizationBridge$setValid(true);
+        }
+
+        final MapDecorations stackDecorations = mapStack.getOrDefault(DataComponents.MAP_DECORATIONS, MapDecorations.EMPTY);
+        if (!this.decorations.keySet().containsAll(stackDecorations.decorations().keySet())) {
+            stackDecorations.decorations().forEach((id, entry) -> {
+                if (!this.decorations.containsKey(id)) {
+                    this.shadow$addDecoration(entry.type(), player.level(), id, entry.x(), entry.z(), entry.rotation(), null);
+                }
+            });
+        }
+    }
+
+    /**
+     * Vanilla recomputes the frame marker once for every player in the level,
+     * every time the frame is synced. The marker only changes when a different
+     * frame takes the position or the frame is rotated, so compare against the
+     * recorded {@link MapFrame} first.
+     */
+    @Override
+    public void mapOptimizationBridge$updateItemFrameDecoration(final ItemFrame frame) {
+        if (!this.trackingPosition) {
+            return;
+        }
+        final BlockPos pos = frame.getPos();
+        final int rotation = frame.getDirection().get2DDataValue() * 90;
+        final String decorationId = "frame-" + frame.getId();
+        final @Nullable MapFrame existing = this.frameMarkers.get(MapFrame.frameId(pos));
+        if (existing != null && existing.getEntityId() == frame.getId() && existing.getRotation() == rotation
+            && this.decorations.containsKey(decorationId)) {
+            return;
+        }
+        if (existing != null && existing.getEntityId() != frame.getId()) {
+            this.mapOptimization$removeDecoration("frame-" + existing.getEntityId());
+        }
+        final MapFrame marker = new MapFrame(pos, rotation, frame.getId());
+        this.shadow$addDecoration(MapDecorationTypes.FRAME, frame.level(), decorationId, pos.getX(), pos.getZ(), rotation, null);
+        this.frameMarkers.put(marker.getId(), marker);
+    }
+
+    // removeDecoration marks every holder as needing a decoration resend, even if nothing was removed
+    private void mapOptimization$removeDecoration(final String id) {
+        if (this.decorations.containsKey(id)) {
+            this.shadow$removeDecoration(id);
+        }
+    }
+}
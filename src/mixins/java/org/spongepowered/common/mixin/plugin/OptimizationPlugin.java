@@ -56,5 +56,9 @@ public boolean shouldApplyMixin(final String targetClassName, final String mixin
             .put("org.spongepowered.common.mixin.optimization.general.DataFixersMixin_Optimization_LazyDFU", optimizationCategory -> optimizationCategory.enableLazyDFU)
             .put("org.spongepowered.common.mixin.optimization.world.entity.TamableAnimalMixin_Optimization_Owner", optimizationCategory -> optimizationCategory.cacheTameableOwners)
             .put("org.spongepowered.common.mixin.optimization.world.level.block.entity.BellBlockEntityMixin_Optimization_BellLeak", optimizationCategory -> optimizationCategory.bellLeak)
+            .put("org.spongepowered.common.mixin.optimization.server.level.ServerEntityMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.world.item.MapItemMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.world.level.saveddata.MapItemSavedDataMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
+            .put("org.spongepowered.common.mixin.optimization.world.level.saveddata.MapItemSavedData_HoldingPlayerMixin_Optimization_Map", optimizationCategory -> optimizationCategory.optimizeMaps)
             .build();
 }
@@ -0,0 +1,183 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.entity.EntitySectionStorage;
+import net.minecraft.world.level.entity.PersistentEntitySectionManager;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.server.level.ServerLevelAccessor;
+import org.spongepowered.common.accessor.world.level.entity.PersistentEntitySectionManagerAccessor;
+import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Performs the activation range checks for a single {@link ServerLevel}.
+ *
+ * <p>Rather than visiting every chunk around every player, the union of the
+ * chunks in range of any player is collected first and every entity in it is
+ * visited once. Players are bucketed by chunk, so each entity is only tested
+ * against the players that are close enough to possibly activate it.</p>
+ *
+ * <p>All working state is owned by the engine of its level, so levels may
+ * be ticked independently of each other.</p>
+ */
+public final class EntityActivationEngine {
+
+    private static final int VERTICAL_RANGE = 256;
+
+    private final ServerLevel level;
+    private final LongOpenHashSet chunksInRange = new LongOpenHashSet();
+    private final Long2ObjectOpenHashMap<List<ServerPlayer>> playersByChunk = new Long2ObjectOpenHashMap<>();
+    private int maxRange;
+    private long currentTick;
+
+    public EntityActivationEngine(final ServerLevel level) {
+        this.level = level;
+    }
+
+    /**
+     * Find what entities are in range of the players in the world and set
+     * active if in range.
+     */
+    public void activateEntities() {
+        final List<ServerPlayer> players = this.level.players();
+        if (players.isEmpty()) {
+            return;
+        }
+
+        int maxRange = 0;
+        for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
+            }
+        }
+        this.maxRange = Math.min((((ServerWorld) this.level).properties().viewDistance() << 4) - 8, maxRange);
+        this.currentTick = SpongeCommon.server().getTickCount();
+
+        try {
+            this.collectPlayers(players);
+            final LongIterator iterator = this.chunksInRange.iterator();
+            while (iterator.hasNext()) {
+                final long chunkPos = iterator.nextLong();
+                if (this.level.getChunkSource().getChunkNow(ChunkPos.getX(chunkPos), ChunkPos.getZ(chunkPos)) != null) {
+                    this.activateChunkEntities(chunkPos);
+                }
+            }
+        } finally {
+            this.chunksInRange.clear();
+            this.playersByChunk.clear();
+        }
+    }
+
+    private void collectPlayers(final List<ServerPlayer> players) {
+        for (final ServerPlayer player : players) {
+            ((ActivationCapabilityBridge) player).activation$setActivatedTick(this.currentTick);
+            this.playersByChunk.computeIfAbsent(player.chunkPosition().toLong(), k -> new ArrayList<>(4)).add(player);
+
+            final AABB bb = player.getBoundingBox();
+            final int minX = Mth.floor((bb.minX - this.maxRange) / 16.0D);
+            final int maxX = Mth.floor((bb.maxX + this.maxRange) / 16.0D);
+            final int minZ = Mth.floor((bb.minZ - this.maxRange) / 16.0D);
+            final int maxZ = Mth.floor((bb.maxZ + this.maxRange) / 16.0D);
+            for (int x = minX; x <= maxX; ++x) {
+                for (int z = minZ; z <= maxZ; ++z) {
+                    this.chunksInRange.add(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+    }
+
+    private void activateChunkEntities(final long chunkPos) {
+        final PersistentEntitySectionManager<Entity> entityManager = ((ServerLevelAccessor) this.level).accessor$getEntityManager();
+        final EntitySectionStorage<Entity> entitySectionStorage = ((PersistentEntitySectionManagerAccessor<Entity>) entityManager).accessor$sectionStorage();
+        final int chunkX = ChunkPos.getX(chunkPos);
+        final int chunkZ = ChunkPos.getZ(chunkPos);
+        entitySectionStorage.getExistingSectionsInChunk(chunkPos).forEach(section -> section.getEntities().forEach(entity -> {
+            final ChunkPos entityChunk = entity.chunkPosition();
+            if (entityChunk.x != chunkX || entityChunk.z != chunkZ) {
+                return;
+            }
+            this.activateEntity(entity);
+        }));
+    }
+
+    private void activateEntity(final Entity entity) {
+        final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
+        if (!((TrackableBridge) entity).bridge$shouldTick()) {
+            return;
+        }
+        if (this.currentTick <= spongeEntity.activation$getActivatedTick()) {
+            return;
+        }
+        if (spongeEntity.activation$getDefaultActivationState()) {
+            EntityActivationRange.initializeEntityActivationState(entity);
+            spongeEntity.activation$setActivatedTick(this.currentTick);
+            return;
+        }
+
+        // Players further away than this could never have reached the entity's chunk
+        final int range = Math.min(spongeEntity.activation$getActivationRange(), this.maxRange);
+        final AABB bb = entity.getBoundingBox();
+        final int minX = SectionPos.blockToSectionCoord(Mth.floor(bb.minX - range) - 1);
+        final int maxX = SectionPos.blockToSectionCoord(Mth.floor(bb.maxX + range) + 1);
+        final int minZ = SectionPos.blockToSectionCoord(Mth.floor(bb.minZ - range) - 1);
+        final int maxZ = SectionPos.blockToSectionCoord(Mth.floor(bb.maxZ + range) + 1);
+        for (int x = minX; x <= maxX; ++x) {
+            for (int z = minZ; z <= maxZ; ++z) {
+                final List<ServerPlayer> players = this.playersByChunk.get(ChunkPos.asLong(x, z));
+                if (players == null) {
+                    continue;
+                }
+                for (int i = 0, size = players.size(); i < size; i++) {
+                    if (EntityActivationEngine.inRange(players.get(i).getBoundingBox(), bb, range)) {
+                        spongeEntity.activation$setActivatedTick(this.currentTick);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    // Equivalent to growing the player's box by the range and testing for intersection, without creating a box
+    private static boolean inRange(final AABB player, final AABB entity, final int range) {
+        return entity.maxX > player.minX - range && entity.minX < player.maxX + range
+            && entity.maxY > player.minY - EntityActivationEngine.VERTICAL_RANGE && entity.minY < player.maxY + EntityActivationEngine.VERTICAL_RANGE
+            && entity.maxZ > player.minZ - range && entity.minZ < player.maxZ + range;
+    }
+}
@@ -24,12 +24,8 @@
  */
 package org.spongepowered.common.mixin.plugin.entityactivation;
 
-import com.google.common.collect.ImmutableMap;
-import net.minecraft.core.SectionPos;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LightningBolt;
@@ -52,54 +48,29 @@
 import net.minecraft.world.entity.projectile.AbstractHurtingProjectile;
 import net.minecraft.world.entity.projectile.FireworkRocketEntity;
 import net.minecraft.world.entity.projectile.ThrowableProjectile;
-import net.minecraft.world.level.chunk.LevelChunk;
-import net.minecraft.world.level.entity.EntitySection;
-import net.minecraft.world.level.entity.EntitySectionStorage;
-import net.minecraft.world.level.entity.PersistentEntitySectionManager;
-import net.minecraft.world.phys.AABB;
 import org.spongepowered.api.data.Keys;
 import org.spongepowered.api.entity.explosive.fused.FusedExplosive;
 import org.spongepowered.api.entity.projectile.Projectile;
-import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.common.SpongeCommon;
-import org.spongepowered.common.accessor.server.level.ServerLevelAccessor;
 import org.spongepowered.common.accessor.world.entity.EntityAccessor;
-import org.spongepowered.common.accessor.world.level.entity.PersistentEntitySectionManagerAccessor;
-import org.spongepowered.common.accessor.world.phys.AABBAccessor;
-import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
 import org.spongepowered.common.bridge.world.entity.EntityTypeBridge;
 import org.spongepowered.common.bridge.world.entity.PlatformEntityBridge;
-import org.spongepowered.common.bridge.world.level.LevelBridge;
 import org.spongepowered.common.bridge.world.level.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.level.chunk.LevelChunkBridge;
 import org.spongepowered.common.config.SpongeGameConfigs;
 import org.spongepowered.common.config.inheritable.EntityActivationRangeCategory;
 import org.spongepowered.common.config.inheritable.GlobalConfig;
 import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
-import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.config.inheritable.WorldConfigSnapshot;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class EntityActivationRange {
 
-    private static final ImmutableMap<Byte, String> activationTypeMappings = new ImmutableMap.Builder<Byte, String>()
-        .put((byte) 1, "monster")
-        .put((byte) 2, "creature")
-        .put((byte) 3, "aquatic")
-        .put((byte) 4, "ambient")
-        .put((byte) 5, "misc")
-        .build();
-
-    static AABB maxBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB miscBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB creatureBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB monsterBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB aquaticBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB ambientBB = new AABB(0, 0, 0, 0, 0, 0);
-    static AABB tileEntityBB = new AABB(0, 0, 0, 0, 0, 0);
-    static Map<Byte, Integer> maxActivationRanges = new HashMap<>();
+    // Derived from the global config, shared by every level's EntityActivationEngine
+    static final Map<Byte, Integer> maxActivationRanges = new ConcurrentHashMap<>();
 
     /**
      * Initializes an entities type on construction to specify what group this
@@ -150,20 +121,19 @@ public static void initializeEntityActivationState(final Entity entity) {
             return;
         }
 
-        final InheritableConfigHandle<WorldConfig> configAdapter = SpongeGameConfigs.getForWorld(entity.level());
-        final EntityActivationRangeCategory config = configAdapter.get().entityActivationRange;
+        final WorldConfigSnapshot config = SpongeGameConfigs.getSnapshotForWorld(entity.level());
 
         final EntityTypeBridge type = (EntityTypeBridge) entity.getType();
         final ResourceLocation key = EntityType.getKey(entity.getType());
         final byte activationType = spongeEntity.activation$getActivationType();
-        final String activationTypeName = EntityActivationRange.activationTypeMappings.getOrDefault(activationType, "misc");
         if (!type.bridge$isActivationRangeInitialized()) {
-            EntityActivationRange.addEntityToConfig(config.autoPopulate, key, activationType, activationTypeName);
+            EntityActivationRange.addEntityToConfig(config.activationAutoPopulate, key, activationType,
+                WorldConfigSnapshot.activationTypeName(activationType));
             type.bridge$setActivationRangeInitialized(true);
         }
 
-        final EntityActivationRangeCategory.ModSubCategory entityMod = config.mods.get(key.getNamespace());
-        final int defaultActivationRange = config.globalRanges.get(activationTypeName);
+        final WorldConfigSnapshot.ModActivationRanges entityMod = config.activationMod(key.getNamespace());
+        final int defaultActivationRange = config.activationRange(activationType);
 
         if (entityMod == null) {
             // use default activation range
@@ -177,14 +147,14 @@ public static void initializeEntityActivationState(final Entity entity) {
                 return;
             }
 
-            final Integer defaultModActivationRange = entityMod.defaultRanges.get(activationTypeName);
-            final Integer entityActivationRange = entityMod.entities.get(key.getPath());
-            if (defaultModActivationRange != null && entityActivationRange == null) {
+            final int defaultModActivationRange = entityMod.defaultRange(activationType);
+            final int entityActivationRange = entityMod.entityRange(key.getPath());
+            if (defaultModActivationRange != WorldConfigSnapshot.NO_RANGE && entityActivationRange == WorldConfigSnapshot.NO_RANGE) {
                 spongeEntity.activation$setActivationRange(defaultModActivationRange);
                 if (defaultModActivationRange > 0) {
                     spongeEntity.activation$setDefaultActivationState(false);
                 }
-            } else if (entityActivationRange != null) {
+            } else if (entityActivationRange != WorldConfigSnapshot.NO_RANGE) {
                 spongeEntity.activation$setActivationRange(entityActivationRange);
                 if (entityActivationRange > 0) {
                     spongeEntity.activation$setDefaultActivationState(false);
@@ -193,121 +163,6 @@ public static void initializeEntityActivationState(final Entity entity) {
         }
     }
 
-    /**
-     * Utility method to grow an AABB without creating a new AABB or touching
-     * the pool, so we can re-use ones we have.
-     *
-     * @param target The AABB to modify
-     * @param source The AABB to get initial coordinates from
-     * @param x The x value to expand by
-     * @param y The y value to expand by
-     * @param z The z value to expand by
-     * @return An AABB
-     */
-    public static AABB growBb(final AABB target, final AABB source, final int x, final int y, final int z) {
-        ((AABBAccessor) target).accessor$setMinX(source.minX - x);
-        ((AABBAccessor) target).accessor$setMinY(source.minY - y);
-        ((AABBAccessor) target).accessor$setMinZ(source.minZ - z);
-        ((AABBAccessor) target).accessor$setMaxX(source.maxX + x);
-        ((AABBAccessor) target).accessor$setMaxY(source.maxY + y);
-        ((AABBAccessor) target).accessor$setMaxZ(source.maxZ + z);
-        return target;
-    }
-
-    /**
-     * Find what entities are in range of the players in the world and set
-     * active if in range.
-     *
-     * @param world The world to perform activation checks in
-     */
-    public static void activateEntities(final ServerLevel world) {
-        if (((LevelBridge) world).bridge$isFake()) {
-            return;
-        }
-
-        for (final ServerPlayer player : world.players()) {
-            int maxRange = 0;
-            for (final Integer range : EntityActivationRange.maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
-            }
-
-            maxRange = Math.min((((ServerWorld) world).properties().viewDistance() << 4) - 8, maxRange);
-            ((ActivationCapabilityBridge) player).activation$setActivatedTick(SpongeCommon.server().getTickCount());
-            final AABB aabb = EntityActivationRange.maxBB;
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), maxRange, 256, maxRange);
-
-            final int i = Mth.floor(aabb.minX / 16.0D);
-            final int j = Mth.floor(aabb.maxX / 16.0D);
-            final int k = Mth.floor(aabb.minZ / 16.0D);
-            final int l = Mth.floor(aabb.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    final LevelChunk chunk = world.getChunkSource().getChunkNow(i1, j1);
-                    if (chunk != null) {
-                        EntityActivationRange.activateChunkEntities(player, chunk);
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * Checks for the activation state of all entities in this chunk.
-     *
-     * @param chunk Chunk to check for activation
-     */
-    private static void activateChunkEntities(final ServerPlayer player, final LevelChunk chunk) {
-        final PersistentEntitySectionManager<Entity> entityManager = ((ServerLevelAccessor) chunk.getLevel()).accessor$getEntityManager();
-        final EntitySectionStorage<Entity> entitySectionStorage = ((PersistentEntitySectionManagerAccessor<Entity>) entityManager).accessor$sectionStorage();
-        entitySectionStorage.getExistingSectionsInChunk(SectionPos.of(chunk.getPos(), 0).asLong()).flatMap(EntitySection::getEntities).forEach(entity -> {
-            if (!entity.chunkPosition().equals(chunk.getPos())) {
-                return;
-            }
-            final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
-            final long currentTick = SpongeCommon.server().getTickCount();
-            if (!((TrackableBridge) entity).bridge$shouldTick()) {
-                return;
-            }
-            if (currentTick <= spongeEntity.activation$getActivatedTick()) {
-                return;
-            }
-            if (spongeEntity.activation$getDefaultActivationState()) {
-                EntityActivationRange.initializeEntityActivationState(entity);
-                spongeEntity.activation$setActivatedTick(currentTick);
-                return;
-            }
-
-            // check for entity type overrides
-            AABB aabb;
-            switch (spongeEntity.activation$getActivationType()) {
-                case 5:
-                    aabb = EntityActivationRange.miscBB;
-                    break;
-                case 4:
-                    aabb = EntityActivationRange.ambientBB;
-                    break;
-                case 3:
-                    aabb = EntityActivationRange.aquaticBB;
-                    break;
-                case 2:
-                    aabb = EntityActivationRange.creatureBB;
-                    break;
-                default:
-                    aabb = EntityActivationRange.monsterBB;
-                    break;
-            }
-
-            final int bbActivationRange = spongeEntity.activation$getActivationRange();
-            EntityActivationRange.growBb(aabb, player.getBoundingBox(), bbActivationRange, 256, bbActivationRange);
-            if (aabb.intersects(entity.getBoundingBox())) {
-                spongeEntity.activation$setActivatedTick(currentTick);
-            }
-        });
-    }
-
     /**
      * If an entity is not in range, do some more checks to see if we should
      * give it a shot.
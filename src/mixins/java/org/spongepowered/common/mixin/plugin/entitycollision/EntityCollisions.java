@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entitycollision;
+
+import net.minecraft.world.level.Level;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.common.bridge.entitycollision.CollisionCapabilityBridge;
+import org.spongepowered.common.bridge.entitycollision.CollisionCounterBridge;
+import org.spongepowered.common.bridge.world.level.LevelBridge;
+import org.spongepowered.common.bridge.world.level.storage.PrimaryLevelDataBridge;
+import org.spongepowered.common.config.SpongeGameConfigs;
+import org.spongepowered.common.config.inheritable.EntityCollisionCategory;
+import org.spongepowered.common.config.inheritable.GlobalConfig;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class EntityCollisions {
+
+    private static final Set<ResourceKey> populatedKeys = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Resolves the collision limit of the given entity or block entity from
+     * the configuration of the world it currently lives in.
+     *
+     * @param bridge The entity or block entity
+     * @param level The world to read the configuration from
+     * @param blockEntity Whether the bridge is a block entity
+     */
+    public static void initializeCollisionState(final CollisionCapabilityBridge bridge, final Level level, final boolean blockEntity) {
+        bridge.collision$requiresCollisionsCacheRefresh(false);
+        if (level == null || level.isClientSide || ((LevelBridge) level).bridge$isFake()
+            || !((PrimaryLevelDataBridge) level.getLevelData()).bridge$valid()) {
+            bridge.collision$setMaxCollisions(-1);
+            return;
+        }
+
+        final EntityCollisionCategory config = SpongeGameConfigs.getForWorld(level).get().entityCollision;
+        final ResourceKey key = bridge.collision$getKey();
+        if (key == null) {
+            bridge.collision$setMaxCollisions(-1);
+            return;
+        }
+        if (config.autoPopulate && EntityCollisions.populatedKeys.add(key)) {
+            EntityCollisions.addToConfig(key, blockEntity);
+        }
+
+        final int defaultMax = blockEntity ? config.maxBlockEntityCollisions : config.maxEntityCollisions;
+        final EntityCollisionCategory.ModSubCategory mod = config.mods.get(key.namespace());
+        if (mod == null) {
+            bridge.collision$setMaxCollisions(defaultMax);
+            return;
+        }
+        if (!mod.enabled) {
+            bridge.collision$setMaxCollisions(-1);
+            return;
+        }
+
+        final Integer specificMax = (blockEntity ? mod.blockEntities : mod.entities).get(key.value());
+        final Integer modMax = blockEntity ? mod.defaultBlockEntityCollisions : mod.defaultEntityCollisions;
+        if (specificMax != null) {
+            bridge.collision$setMaxCollisions(specificMax);
+        } else if (modMax != null) {
+            bridge.collision$setMaxCollisions(modMax);
+        } else {
+            bridge.collision$setMaxCollisions(defaultMax);
+        }
+    }
+
+    /**
+     * Gets the collision limit of the given entity or block entity, resolving
+     * it first if the cached value was invalidated.
+     *
+     * @param bridge The entity or block entity
+     * @param level The world the collision happens in
+     * @return The maximum number of collisions, or a negative number if unlimited
+     */
+    public static int maxCollisions(final CollisionCapabilityBridge bridge, final Level level) {
+        if (bridge.collision$requiresCollisionsCacheRefresh()) {
+            bridge.collision$initializeCollisionState(level);
+        }
+        return bridge.collision$getMaxCollisions();
+    }
+
+    public static void recordSkipped(final Level level, final int skipped) {
+        if (skipped > 0 && level instanceof final CollisionCounterBridge counter) {
+            counter.collision$addSkippedCollisions(skipped);
+        }
+    }
+
+    private static void addToConfig(final ResourceKey key, final boolean blockEntity) {
+        final InheritableConfigHandle<GlobalConfig> globalConfig = SpongeGameConfigs.getGlobalInheritable();
+        final EntityCollisionCategory collisionConfig = globalConfig.get().entityCollision;
+
+        boolean requiresSave = false;
+        EntityCollisionCategory.ModSubCategory modSubCategory = collisionConfig.mods.get(key.namespace());
+        if (modSubCategory == null) {
+            modSubCategory = new EntityCollisionCategory.ModSubCategory();
+            collisionConfig.mods.put(key.namespace(), modSubCategory);
+            requiresSave = true;
+        }
+
+        final Map<String, Integer> limits = blockEntity ? modSubCategory.blockEntities : modSubCategory.entities;
+        if (!limits.containsKey(key.value())) {
+            final Integer modMax = blockEntity ? modSubCategory.defaultBlockEntityCollisions : modSubCategory.defaultEntityCollisions;
+            limits.put(key.value(), modMax != null ? modMax
+                : blockEntity ? collisionConfig.maxBlockEntityCollisions : collisionConfig.maxEntityCollisions);
+            requiresSave = true;
+        }
+
+        if (requiresSave) {
+            globalConfig.save();
+        }
+    }
+
+    private EntityCollisions() {
+    }
+}
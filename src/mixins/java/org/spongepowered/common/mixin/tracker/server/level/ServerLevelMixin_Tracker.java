@@ -44,6 +44,7 @@
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.ticks.ScheduledTick;
 import net.minecraft.world.ticks.TickPriority;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.Sponge;
@@ -105,6 +106,7 @@
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
+import org.spongepowered.common.world.volume.VolumeStreamUtils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -112,6 +114,7 @@
 import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Mixin(ServerLevel.class)
 public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implements TrackedWorldBridge {
@@ -120,6 +123,8 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
     @Shadow @Final List<ServerPlayer> players;
     // @formatting:on
 
+    private @MonotonicNonNull Supplier<ServerLevel> tracker$weakSupplier;
+
     @Redirect(
             // This normally would target this.entityTickList.forEach((var2x) ->
             // but we don't have lambda syntax support yet.
@@ -140,6 +145,14 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
         TrackingUtil.tickTileEntity(this, blockEntity);
     }
 
+    @Override
+    public Supplier<ServerLevel> bridge$weakSupplier() {
+        if (this.tracker$weakSupplier == null) {
+            this.tracker$weakSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((ServerLevel) (Object) this, "ServerWorld");
+        }
+        return this.tracker$weakSupplier;
+    }
+
 
     /**
      * For PhaseTracking, we need to wrap around the
@@ -37,12 +37,11 @@
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.world.TrackedWorldBridge;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
-import org.spongepowered.common.world.volume.VolumeStreamUtils;
-
-import java.util.function.Supplier;
 
 @Mixin(NeighborUpdater.class)
 public interface NeighborUpdaterMixin_Tracker {
@@ -65,19 +64,26 @@ public interface NeighborUpdaterMixin_Tracker {
     ))
     private static void tracker$wrapNeighborUpdateInSideEffect(Level level, BlockState targetState, BlockPos targetPos, Block fromBlock, BlockPos fromPos, boolean movement, CallbackInfo ci) {
         // Sponge start - prepare notification
-        final PhaseContext<@NonNull ?> peek = PhaseTracker.getInstance().getPhaseContext();
-        if (!(level instanceof ServerLevel serverLevel)) {
+        if (!(level instanceof final ServerLevel serverLevel)) {
             return;
         }
+        final PhaseContext<@NonNull ?> peek = PhaseTracker.getInstance().getPhaseContext();
 
-        final var targetChunk = serverLevel.getChunkAt(targetPos);
-        final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(serverLevel, "ServerWorld");
-        final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
-            targetPos,
-            LevelChunk.EntityCreationType.CHECK
-        );
-        peek.getTransactor().logNeighborNotification(worldSupplier, fromPos, fromBlock, targetPos, targetState, existingTile);
+        // The transaction only exists to build a NotifyNeighborBlockEvent, but it also separates
+        // the batches of the transactions around it. When nobody listens for the event, only log
+        // it where it would start a new batch, so ChangeBlockEvents are still split as before.
+        if (ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT || !peek.getTransactor().endsWithNeighborNotification()) {
+            final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = serverLevel.getChunkAt(targetPos).getBlockEntity(
+                targetPos,
+                LevelChunk.EntityCreationType.CHECK
+            );
+            peek.getTransactor().logNeighborNotification(((TrackedWorldBridge) serverLevel).bridge$weakSupplier(), fromPos, fromBlock, targetPos,
+                targetState, existingTile);
+        }
 
-        peek.associateNeighborStateNotifier(fromPos, targetState.getBlock(), targetPos, serverLevel, PlayerTracker.Type.NOTIFIER);
+        // The shared empty context is never closed, so it cannot remember positions
+        if (peek.isEmpty() || peek.markNeighborNotifierAssociated(serverLevel, fromPos, fromBlock, targetPos)) {
+            peek.associateNeighborStateNotifier(fromPos, targetState.getBlock(), targetPos, serverLevel, PlayerTracker.Type.NOTIFIER);
+        }
     }
 }
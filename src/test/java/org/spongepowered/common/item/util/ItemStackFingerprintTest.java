@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.item.util;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+final class ItemStackFingerprintTest {
+
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    private static ItemStack named(final int count, final String name) {
+        final ItemStack stack = new ItemStack(Items.DIAMOND_SWORD, count);
+        stack.set(DataComponents.CUSTOM_NAME, Component.literal(name));
+        return stack;
+    }
+
+    @Test
+    void testQuantityIsIgnored() {
+        final ItemStackFingerprint one = ItemStackFingerprint.of(new ItemStack(Items.STONE, 1));
+        final ItemStackFingerprint many = ItemStackFingerprint.of(new ItemStack(Items.STONE, 64));
+        Assertions.assertEquals(one, many);
+        Assertions.assertEquals(one.hashCode(), many.hashCode());
+    }
+
+    @Test
+    void testItemAndComponentsAreCompared() {
+        Assertions.assertNotEquals(ItemStackFingerprint.of(new ItemStack(Items.STONE)), ItemStackFingerprint.of(new ItemStack(Items.DIRT)));
+        Assertions.assertNotEquals(ItemStackFingerprint.of(new ItemStack(Items.DIAMOND_SWORD)),
+            ItemStackFingerprint.of(ItemStackFingerprintTest.named(1, "Sword")));
+        Assertions.assertNotEquals(ItemStackFingerprint.of(ItemStackFingerprintTest.named(1, "Sword")),
+            ItemStackFingerprint.of(ItemStackFingerprintTest.named(1, "Blade")));
+        Assertions.assertEquals(ItemStackFingerprint.of(ItemStackFingerprintTest.named(1, "Sword")),
+            ItemStackFingerprint.of(ItemStackFingerprintTest.named(1, "Sword")));
+    }
+
+    @Test
+    void testEmptyStacks() {
+        Assertions.assertSame(ItemStackFingerprint.EMPTY, ItemStackFingerprint.of(ItemStack.EMPTY));
+        Assertions.assertSame(ItemStackFingerprint.EMPTY, ItemStackFingerprint.of(new ItemStack(Items.STONE, 0)));
+        Assertions.assertTrue(ItemStackFingerprint.EMPTY.matches(ItemStack.EMPTY));
+        Assertions.assertTrue(ItemStackFingerprint.EMPTY.matches(new ItemStack(Items.AIR)));
+        Assertions.assertFalse(ItemStackFingerprint.of(new ItemStack(Items.STONE)).matches(ItemStack.EMPTY));
+        Assertions.assertTrue(ItemStackFingerprint.EMPTY.createStack(5).isEmpty());
+    }
+
+    @Test
+    void testMatches() {
+        final ItemStackFingerprint fingerprint = ItemStackFingerprint.of(ItemStackFingerprintTest.named(1, "Sword"));
+        Assertions.assertTrue(fingerprint.matches(ItemStackFingerprintTest.named(1, "Sword")));
+        Assertions.assertFalse(fingerprint.matches(ItemStackFingerprintTest.named(1, "Blade")));
+        Assertions.assertFalse(fingerprint.matches(new ItemStack(Items.DIAMOND_SWORD)));
+        Assertions.assertFalse(fingerprint.matches(ItemStack.EMPTY));
+    }
+
+    @Test
+    void testCreateStack() {
+        final ItemStack original = ItemStackFingerprintTest.named(1, "Sword");
+        final ItemStack created = ItemStackFingerprint.of(original).createStack(3);
+        Assertions.assertEquals(3, created.getCount());
+        Assertions.assertTrue(ItemStack.isSameItemSameComponents(original, created));
+        Assertions.assertEquals(ItemStackFingerprint.of(original), ItemStackFingerprint.of(created));
+    }
+}
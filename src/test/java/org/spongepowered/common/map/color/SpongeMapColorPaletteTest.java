@@ -0,0 +1,130 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.map.color;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.common.util.Constants;
+
+import java.util.Arrays;
+import java.util.List;
+
+final class SpongeMapColorPaletteTest {
+
+    private static final byte TRANSPARENT = 0;
+    private static final byte RED = 8;
+    private static final byte GREEN = 12;
+    private static final byte BLUE = 16;
+    private static final byte WHITE = 20;
+    private static final byte BLACK = 24;
+
+    private static SpongeMapColorPalette palette() {
+        return new SpongeMapColorPalette(0, List.of(
+            new SpongeMapColorPalette.Entry(SpongeMapColorPaletteTest.TRANSPARENT, 0x000000, false),
+            new SpongeMapColorPalette.Entry(SpongeMapColorPaletteTest.RED, 0xFF0000, true),
+            new SpongeMapColorPalette.Entry(SpongeMapColorPaletteTest.GREEN, 0x00FF00, true),
+            new SpongeMapColorPalette.Entry(SpongeMapColorPaletteTest.BLUE, 0x0000FF, true),
+            new SpongeMapColorPalette.Entry(SpongeMapColorPaletteTest.WHITE, 0xFFFFFF, true),
+            new SpongeMapColorPalette.Entry(SpongeMapColorPaletteTest.BLACK, 0x101010, true)
+        ));
+    }
+
+    private static int[] canvas(final int rgb) {
+        final int[] pixels = new int[Constants.Map.MAP_SIZE];
+        Arrays.fill(pixels, rgb);
+        return pixels;
+    }
+
+    @Test
+    void testExactMatches() {
+        final SpongeMapColorPalette palette = SpongeMapColorPaletteTest.palette();
+        Assertions.assertEquals(SpongeMapColorPaletteTest.RED, palette.exact(0xFF0000));
+        Assertions.assertEquals(SpongeMapColorPaletteTest.TRANSPARENT, palette.exact(0x000000));
+        // The alpha channel is ignored
+        Assertions.assertEquals(SpongeMapColorPaletteTest.BLUE, palette.exact(0xFF0000FF));
+        Assertions.assertEquals(-1, palette.exact(0x123456));
+    }
+
+    @Test
+    void testNearestIsOpaque() {
+        final SpongeMapColorPalette palette = SpongeMapColorPaletteTest.palette();
+        Assertions.assertEquals(SpongeMapColorPaletteTest.RED, palette.nearest(250, 10, 10));
+        Assertions.assertEquals(SpongeMapColorPaletteTest.GREEN, palette.nearest(20, 200, 30));
+        Assertions.assertEquals(SpongeMapColorPaletteTest.WHITE, palette.nearest(240, 240, 240));
+        // Pure black renders as the transparent pixel, but only an opaque one may be picked
+        Assertions.assertEquals(SpongeMapColorPaletteTest.BLACK, palette.nearest(0, 0, 0));
+    }
+
+    @Test
+    void testRgbOfPixel() {
+        final SpongeMapColorPalette palette = SpongeMapColorPaletteTest.palette();
+        Assertions.assertEquals(0x00FF00, palette.rgb(SpongeMapColorPaletteTest.GREEN));
+        Assertions.assertEquals(0x101010, palette.rgb(SpongeMapColorPaletteTest.BLACK));
+    }
+
+    @Test
+    void testQuantizeWithoutDithering() {
+        final SpongeMapColorPalette palette = SpongeMapColorPaletteTest.palette();
+        final int[] pixels = SpongeMapColorPaletteTest.canvas(0x000000);
+        pixels[1] = 0xFF0000;
+        pixels[2] = 0xEE1111;
+        final byte[] canvas = new byte[Constants.Map.MAP_SIZE];
+        palette.quantize(pixels, canvas, false);
+
+        Assertions.assertEquals(SpongeMapColorPaletteTest.BLACK, canvas[0]);
+        Assertions.assertEquals(SpongeMapColorPaletteTest.RED, canvas[1]);
+        Assertions.assertEquals(SpongeMapColorPaletteTest.RED, canvas[2]);
+    }
+
+    @Test
+    void testDitheringKeepsExactColors() {
+        final SpongeMapColorPalette palette = SpongeMapColorPaletteTest.palette();
+        final byte[] canvas = new byte[Constants.Map.MAP_SIZE];
+        palette.quantize(SpongeMapColorPaletteTest.canvas(0x0000FF), canvas, true);
+
+        for (final byte pixel : canvas) {
+            Assertions.assertEquals(SpongeMapColorPaletteTest.BLUE, pixel);
+        }
+    }
+
+    @Test
+    void testDitheringMixesColors() {
+        final SpongeMapColorPalette palette = new SpongeMapColorPalette(0, List.of(
+            new SpongeMapColorPalette.Entry(SpongeMapColorPaletteTest.WHITE, 0xFFFFFF, true),
+            new SpongeMapColorPalette.Entry(SpongeMapColorPaletteTest.BLACK, 0x000000, true)
+        ));
+        final byte[] canvas = new byte[Constants.Map.MAP_SIZE];
+        palette.quantize(SpongeMapColorPaletteTest.canvas(0x808080), canvas, true);
+
+        int white = 0;
+        for (final byte pixel : canvas) {
+            if (pixel == SpongeMapColorPaletteTest.WHITE) {
+                white++;
+            }
+        }
+        // Mid gray comes out as roughly half white and half black
+        Assertions.assertEquals(0.5, white / (double) canvas.length, 0.05);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.game.pagination;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.command.exception.CommandException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+final class ListPaginationTest {
+
+    // One content line is left for the page navigation, so pages hold four lines
+    private static final int LINES_PER_PAGE = 5;
+
+    private static PaginationCalculator calculator() {
+        final PaginationCalculator calc = Mockito.mock(PaginationCalculator.class);
+        Mockito.when(calc.getLinesPerPage()).thenReturn(ListPaginationTest.LINES_PER_PAGE);
+        // Each character of a test line flows into a line of its own
+        Mockito.when(calc.getLines(Mockito.any())).thenAnswer(invocation ->
+            ((TextComponent) invocation.getArgument(0)).content().length());
+        return calc;
+    }
+
+    private static ListPagination pagination(final PaginationCalculator calc, final List<Component> lines) {
+        return new ListPagination(Optional::empty, calc, lines, null, null, null, Component.text("="));
+    }
+
+    private static List<Component> lines(final int count) {
+        final List<Component> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add(Component.text(Character.toString('a' + i % 26)));
+        }
+        return lines;
+    }
+
+    private static List<Component> page(final ListPagination pagination, final int page) throws CommandException {
+        final List<Component> lines = new ArrayList<>();
+        pagination.getLines(page).forEach(lines::add);
+        return lines;
+    }
+
+    @Test
+    void testSplitsLinesIntoPages() throws CommandException {
+        final List<Component> lines = ListPaginationTest.lines(10);
+        final ListPagination pagination = ListPaginationTest.pagination(ListPaginationTest.calculator(), lines);
+
+        Assertions.assertEquals(3, pagination.getTotalPages());
+        Assertions.assertEquals(lines.subList(0, 4), ListPaginationTest.page(pagination, 1));
+        Assertions.assertEquals(lines.subList(4, 8), ListPaginationTest.page(pagination, 2));
+        // The last page is padded at the top to keep the navigation in place
+        Assertions.assertEquals(List.of(Component.empty(), Component.empty(), lines.get(8), lines.get(9)),
+            ListPaginationTest.page(pagination, 3));
+    }
+
+    @Test
+    void testTallLineTakesAPageOfItsOwn() throws CommandException {
+        final Component tall = Component.text("tallest");
+        final List<Component> lines = List.of(Component.text("a"), tall, Component.text("b"));
+        final ListPagination pagination = ListPaginationTest.pagination(ListPaginationTest.calculator(), lines);
+
+        Assertions.assertEquals(3, pagination.getTotalPages());
+        Assertions.assertEquals(List.of(tall), ListPaginationTest.page(pagination, 2));
+    }
+
+    @Test
+    void testNavigation() {
+        final ListPagination pagination = ListPaginationTest.pagination(ListPaginationTest.calculator(), ListPaginationTest.lines(8));
+
+        Assertions.assertFalse(pagination.hasPrevious(1));
+        Assertions.assertTrue(pagination.hasNext(1));
+        Assertions.assertTrue(pagination.hasPrevious(2));
+        Assertions.assertFalse(pagination.hasNext(2));
+    }
+
+    @Test
+    void testPagesOutOfRange() {
+        final ListPagination pagination = ListPaginationTest.pagination(ListPaginationTest.calculator(), ListPaginationTest.lines(5));
+
+        Assertions.assertThrows(CommandException.class, () -> pagination.getLines(0));
+        Assertions.assertThrows(CommandException.class, () -> pagination.getLines(3));
+    }
+
+    @Test
+    void testEmptyList() throws CommandException {
+        final ListPagination pagination = ListPaginationTest.pagination(ListPaginationTest.calculator(), List.of());
+
+        Assertions.assertEquals(0, pagination.getTotalPages());
+        Assertions.assertEquals(List.of(), ListPaginationTest.page(pagination, 1));
+    }
+
+    @Test
+    void testLongListsAreMeasuredOnDemand() throws CommandException {
+        final PaginationCalculator calc = ListPaginationTest.calculator();
+        final List<Component> lines = ListPaginationTest.lines(10_000);
+        final ListPagination pagination = ListPaginationTest.pagination(calc, lines);
+
+        Assertions.assertEquals(lines.subList(0, 4), ListPaginationTest.page(pagination, 1));
+        // Only the first page and the one after it were needed
+        Mockito.verify(calc, Mockito.atMost(10)).getLines(Mockito.any());
+        Assertions.assertEquals(-1, pagination.getTotalPages());
+
+        Assertions.assertEquals(lines.subList(9_996, 10_000), ListPaginationTest.page(pagination, 2_500));
+        Assertions.assertEquals(2_500, pagination.getTotalPages());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.raytrace;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class RayTraceCursorTest {
+
+    private static List<Vector3i> visit(final double startX, final double startY, final double startZ,
+            final double endX, final double endY, final double endZ) {
+        final AbstractSpongeRayTrace.Cursor cursor = new AbstractSpongeRayTrace.Cursor();
+        final double length = cursor.reset(startX, startY, startZ, endX, endY, endZ);
+        final List<Vector3i> visited = new ArrayList<>();
+        visited.add(new Vector3i(cursor.blockX, cursor.blockY, cursor.blockZ));
+        while (cursor.totalT + cursor.nextStep <= length) {
+            cursor.exitAtNextStep();
+            cursor.advance();
+            visited.add(new Vector3i(cursor.blockX, cursor.blockY, cursor.blockZ));
+        }
+        return visited;
+    }
+
+    @Test
+    void testStepsAlongPositiveX() {
+        Assertions.assertEquals(
+            List.of(new Vector3i(0, 0, 0), new Vector3i(1, 0, 0), new Vector3i(2, 0, 0), new Vector3i(3, 0, 0)),
+            RayTraceCursorTest.visit(0.5, 0.5, 0.5, 3.5, 0.5, 0.5));
+    }
+
+    @Test
+    void testStepsAlongNegativeY() {
+        Assertions.assertEquals(
+            List.of(new Vector3i(0, 2, 0), new Vector3i(0, 1, 0), new Vector3i(0, 0, 0), new Vector3i(0, -1, 0)),
+            RayTraceCursorTest.visit(0.5, 2.5, 0.5, 0.5, -0.5, 0.5));
+    }
+
+    @Test
+    void testStepsAlongZ() {
+        Assertions.assertEquals(
+            List.of(new Vector3i(0, 0, 0), new Vector3i(0, 0, 1), new Vector3i(0, 0, 2)),
+            RayTraceCursorTest.visit(0.5, 0.5, 0.5, 0.5, 0.5, 2.5));
+        Assertions.assertEquals(
+            List.of(new Vector3i(0, 0, 0), new Vector3i(0, 0, -1), new Vector3i(0, 0, -2)),
+            RayTraceCursorTest.visit(0.5, 0.5, 0.5, 0.5, 0.5, -1.5));
+    }
+
+    @Test
+    void testStartOnBoundaryTravellingBackwards() {
+        // Starting exactly on x = 1 whilst moving towards -x places the ray in block 0
+        Assertions.assertEquals(
+            List.of(new Vector3i(0, 0, 0), new Vector3i(-1, 0, 0)),
+            RayTraceCursorTest.visit(1.0, 0.5, 0.5, -0.5, 0.5, 0.5));
+    }
+
+    @Test
+    void testDiagonalOnlyStepsToAdjacentBlocks() {
+        final List<Vector3i> visited = RayTraceCursorTest.visit(0.2, 0.3, 0.4, 5.7, -3.1, 2.9);
+        Assertions.assertEquals(new Vector3i(0, 0, 0), visited.get(0));
+        Assertions.assertEquals(new Vector3i(5, -4, 2), visited.get(visited.size() - 1));
+        // Every axis boundary is crossed once: 5 along x, 4 along y and 2 along z
+        Assertions.assertEquals(1 + 5 + 4 + 2, visited.size());
+        for (int i = 1; i < visited.size(); i++) {
+            final Vector3i step = visited.get(i).sub(visited.get(i - 1));
+            Assertions.assertEquals(1, Math.abs(step.x()) + Math.abs(step.y()) + Math.abs(step.z()), "Step " + i + " was " + step);
+        }
+    }
+
+    @Test
+    void testExitAtNextStepReachesBoundary() {
+        final AbstractSpongeRayTrace.Cursor cursor = new AbstractSpongeRayTrace.Cursor();
+        cursor.reset(0.5, 0.5, 0.25, 0.5, 0.5, 3.25);
+        cursor.exitAtNextStep();
+        Assertions.assertEquals(1.0, cursor.exitZ, 1e-9);
+        cursor.advance();
+        Assertions.assertEquals(1.0, cursor.entryZ, 1e-9);
+        Assertions.assertEquals(1, cursor.blockZ);
+    }
+
+    @Test
+    void testResetRejectsZeroLength() {
+        Assertions.assertEquals(0, new AbstractSpongeRayTrace.Cursor().reset(1, 2, 3, 1, 2, 3));
+    }
+}
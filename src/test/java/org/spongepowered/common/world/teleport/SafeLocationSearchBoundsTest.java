@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.teleport;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class SafeLocationSearchBoundsTest {
+
+    private static List<Vector3i> candidates(final SafeLocationSearch.Bounds bounds) {
+        final List<Vector3i> candidates = new ArrayList<>();
+        final LongIterator iterator = bounds.candidates();
+        while (iterator.hasNext()) {
+            final long pos = iterator.nextLong();
+            candidates.add(new Vector3i(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos)));
+        }
+        return candidates;
+    }
+
+    private static void assertOrdered(final SafeLocationSearch.Bounds bounds) {
+        final List<Vector3i> candidates = SafeLocationSearchBoundsTest.candidates(bounds);
+        final Vector3i origin = bounds.origin();
+
+        final Set<Vector3i> expected = new HashSet<>();
+        for (int x = bounds.minX(); x <= bounds.maxX(); x++) {
+            for (int y = bounds.minY(); y <= bounds.maxY(); y++) {
+                for (int z = bounds.minZ(); z <= bounds.maxZ(); z++) {
+                    expected.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        Assertions.assertEquals(expected.size(), candidates.size(), "Every position is visited exactly once");
+        Assertions.assertEquals(expected, new HashSet<>(candidates));
+
+        for (int i = 1; i < candidates.size(); i++) {
+            final Vector3i previous = candidates.get(i - 1);
+            final Vector3i current = candidates.get(i);
+            final int distance = Integer.compare(previous.distanceSquared(origin), current.distanceSquared(origin));
+            Assertions.assertTrue(distance <= 0, () -> previous + " is further from " + origin + " than " + current);
+            if (distance == 0) {
+                final int dy = Integer.compare(Math.abs(current.y() - origin.y()), Math.abs(previous.y() - origin.y()));
+                Assertions.assertTrue(dy <= 0, () -> previous + " changes Y less than " + current);
+                if (dy == 0) {
+                    Assertions.assertTrue(previous.y() >= current.y(), () -> previous + " is lower than " + current);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testOriginComesFirst() {
+        final SafeLocationSearch.Bounds bounds = new SafeLocationSearch.Bounds(new Vector3i(5, 64, -5), 3, 62, -7, 7, 66, -3);
+        Assertions.assertEquals(new Vector3i(5, 64, -5), SafeLocationSearchBoundsTest.candidates(bounds).get(0));
+    }
+
+    @Test
+    void testTiesPreferHigherChangesInY() {
+        final SafeLocationSearch.Bounds bounds = new SafeLocationSearch.Bounds(Vector3i.ZERO, -1, -1, -1, 1, 1, 1);
+        final List<Vector3i> candidates = SafeLocationSearchBoundsTest.candidates(bounds);
+        Assertions.assertEquals(List.of(Vector3i.ZERO, new Vector3i(0, 1, 0), new Vector3i(0, -1, 0)), candidates.subList(0, 3));
+    }
+
+    @Test
+    void testCenteredBoundsAreOrdered() {
+        SafeLocationSearchBoundsTest.assertOrdered(new SafeLocationSearch.Bounds(new Vector3i(0, 64, 0), -9, 55, -9, 9, 73, 9));
+    }
+
+    @Test
+    void testFlatBoundsAreOrdered() {
+        SafeLocationSearchBoundsTest.assertOrdered(new SafeLocationSearch.Bounds(new Vector3i(100, 70, -40), 88, 68, -52, 112, 72, -28));
+    }
+
+    @Test
+    void testClampedBoundsAreOrdered() {
+        // Bounds cut off by the world border or height leave the origin close to, or past, an edge
+        SafeLocationSearchBoundsTest.assertOrdered(new SafeLocationSearch.Bounds(new Vector3i(0, 2, 0), 0, 0, -6, 6, 9, 6));
+        SafeLocationSearchBoundsTest.assertOrdered(new SafeLocationSearch.Bounds(new Vector3i(0, 330, 0), -4, 310, -4, 4, 319, 4));
+    }
+
+    @Test
+    void testSinglePosition() {
+        final SafeLocationSearch.Bounds bounds = new SafeLocationSearch.Bounds(new Vector3i(1, 2, 3), 1, 2, 3, 1, 2, 3);
+        Assertions.assertEquals(List.of(new Vector3i(1, 2, 3)), SafeLocationSearchBoundsTest.candidates(bounds));
+    }
+}